@@ -0,0 +1,265 @@
+package com.labyrinthe;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.scene.control.Label;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+
+/**
+ * Anime les résolutions BFS et DFS d'un {@link Solver} dans l'interface graphique : une case explorée
+ * par image clé, puis affichage du chemin, son de succès et mise à jour des statistiques.
+ * Toute la partie JavaFX de la résolution est ici, le solveur restant utilisable sans interface.
+ */
+public class AnimationSolveur {
+    private final Solver solver; // Solveur dont l'exploration est animée
+    private final LabyrintheRenderer renderer; // Renderer pour l'animation
+    private final MediaPlayer mediaPlayer; // Lecteur audio pour le son de succès (peut être null)
+    private Timeline timeline; // Animation en cours ou terminée, null avant la première
+    private Solver solverActif; // Solveur de la dernière résolution lancée, animée ou en direct (thread JavaFX)
+    private long tempsBFS; // Dernier temps BFS affiché, en millisecondes (thread JavaFX)
+    private long tempsDFS; // Dernier temps DFS affiché, en millisecondes (thread JavaFX)
+
+    /**
+     * Construit l'animation d'un solveur.
+     *
+     * @param solver      le solveur à animer
+     * @param renderer    le renderer pour afficher l'animation
+     * @param mediaPlayer le lecteur audio pour le son de succès
+     */
+    public AnimationSolveur(Solver solver, LabyrintheRenderer renderer, MediaPlayer mediaPlayer) {
+        this.solver = solver;
+        this.renderer = renderer;
+        this.mediaPlayer = mediaPlayer;
+        this.solverActif = solver;
+    }
+
+    /**
+     * Anime la résolution du labyrinthe avec l'algorithme BFS.
+     *
+     * @param delai           le délai entre chaque étape en millisecondes
+     * @param tempsLabel      le label pour afficher le temps d'exécution
+     * @param etapesLabel     le label pour afficher le nombre d'étapes
+     * @param cellulesLabel   le label pour afficher le nombre de cellules explorées
+     * @param comparaisonLabel le label pour afficher la comparaison BFS/DFS
+     */
+    public void animerBFS(int delai, Label tempsLabel, Label etapesLabel, Label cellulesLabel, Label comparaisonLabel) {
+        renderer.reinitialiserAffichage(); // Réinitialiser l'affichage graphique
+        solverActif = solver;
+        animer(solver.explorerBFS(), delai, () -> {
+            tempsLabel.setText("Temps BFS : " + solver.getTempsExecutionBFS() + " ms");
+            etapesLabel.setText("Étapes BFS : " + solver.getNombreEtapesBFS());
+            cellulesLabel.setText("Cellules BFS : " + solver.getCellulesExploreesBFS());
+            tempsBFS = solver.getTempsExecutionBFS();
+            mettreAJourComparaison(comparaisonLabel);
+        });
+    }
+
+    /**
+     * Anime la résolution du labyrinthe avec l'algorithme DFS.
+     *
+     * @param delai           le délai entre chaque étape en millisecondes
+     * @param tempsLabel      le label pour afficher le temps d'exécution
+     * @param etapesLabel     le label pour afficher le nombre d'étapes
+     * @param cellulesLabel   le label pour afficher le nombre de cellules explorées
+     * @param comparaisonLabel le label pour afficher la comparaison BFS/DFS
+     */
+    public void animerDFS(int delai, Label tempsLabel, Label etapesLabel, Label cellulesLabel, Label comparaisonLabel) {
+        renderer.reinitialiserAffichage(); // Réinitialiser l'affichage graphique
+        solverActif = solver;
+        animer(solver.explorerDFS(), delai, () -> {
+            tempsLabel.setText("Temps DFS : " + solver.getTempsExecutionDFS() + " ms");
+            etapesLabel.setText("Étapes DFS : " + solver.getNombreEtapesDFS());
+            cellulesLabel.setText("Cellules DFS : " + solver.getCellulesExploreesDFS());
+            tempsDFS = solver.getTempsExecutionDFS();
+            mettreAJourComparaison(comparaisonLabel);
+        });
+    }
+
+    /**
+     * Résout le labyrinthe avec BFS sur un thread virtuel et affiche l'exploration en direct,
+     * au rythme du thread JavaFX, sans ralentir la résolution. Le labyrinthe est lu pendant toute
+     * la résolution : l'appelant ne doit pas le modifier avant l'appel de {@code fin}.
+     *
+     * @param tempsLabel      le label pour afficher le temps d'exécution
+     * @param etapesLabel     le label pour afficher le nombre d'étapes
+     * @param cellulesLabel   le label pour afficher le nombre de cellules explorées
+     * @param comparaisonLabel le label pour afficher la comparaison BFS/DFS
+     * @param fin             l'action exécutée sur le thread JavaFX une fois la résolution terminée ou en échec
+     */
+    public void diffuserBFS(Label tempsLabel, Label etapesLabel, Label cellulesLabel, Label comparaisonLabel, Runnable fin) {
+        diffuser(Solver::publierBFS, "BFS", tempsLabel, etapesLabel, cellulesLabel, comparaisonLabel, fin);
+    }
+
+    /**
+     * Résout le labyrinthe avec DFS sur un thread virtuel et affiche l'exploration en direct.
+     *
+     * @param tempsLabel      le label pour afficher le temps d'exécution
+     * @param etapesLabel     le label pour afficher le nombre d'étapes
+     * @param cellulesLabel   le label pour afficher le nombre de cellules explorées
+     * @param comparaisonLabel le label pour afficher la comparaison BFS/DFS
+     * @param fin             l'action exécutée sur le thread JavaFX une fois la résolution terminée ou en échec
+     */
+    public void diffuserDFS(Label tempsLabel, Label etapesLabel, Label cellulesLabel, Label comparaisonLabel, Runnable fin) {
+        diffuser(Solver::publierDFS, "DFS", tempsLabel, etapesLabel, cellulesLabel, comparaisonLabel, fin);
+    }
+
+    /**
+     * Abonne le renderer et les labels à un flux d'exploration, puis lance la résolution qui l'alimente.
+     * Chaque diffusion a son propre solveur : ses compteurs ne sont partagés ni avec l'animation
+     * ni avec une autre diffusion.
+     */
+    private void diffuser(Publication resolution, String algo, Label tempsLabel, Label etapesLabel,
+                          Label cellulesLabel, Label comparaisonLabel, Runnable fin) {
+        renderer.reinitialiserAffichage(); // Réinitialiser l'affichage graphique
+        Labyrinthe labyrinthe = solver.getLabyrinthe();
+        Solver diffusion = new Solver(labyrinthe); // Solveur propre à cette résolution en direct
+        solverActif = diffusion; // Progression suivie par le panneau de performances
+        FluxExploration flux = new FluxExploration(labyrinthe);
+        flux.subscribe(new Flow.Subscriber<FluxExploration.Evenement>() {
+            private Flow.Subscription abonnement; // Abonnement au flux
+
+            @Override
+            public void onSubscribe(Flow.Subscription abonnement) {
+                this.abonnement = abonnement;
+                abonnement.request(1); // Un événement à la fois : les cases s'accumulent pendant le dessin
+            }
+
+            @Override
+            public void onNext(FluxExploration.Evenement evenement) {
+                switch (evenement.getType()) {
+                    case CASES_EXPLOREES -> {
+                        for (int i = 0; i < evenement.getNombreCases(); i++) {
+                            renderer.mettreAJourCase(evenement.getLigne(i), evenement.getColonne(i), "explore");
+                        }
+                    }
+                    case STATISTIQUES -> {
+                        tempsLabel.setText("Temps " + algo + " : " + evenement.getTempsMs() + " ms");
+                        etapesLabel.setText("Étapes " + algo + " : " + evenement.getEtapes());
+                        cellulesLabel.setText("Cellules " + algo + " : " + evenement.getCellules());
+                        if (evenement.sontFinales() && algo.equals("BFS")) {
+                            tempsBFS = evenement.getTempsMs(); // Temps mesuré par le solveur de la diffusion
+                        } else if (evenement.sontFinales()) {
+                            tempsDFS = evenement.getTempsMs();
+                        }
+                    }
+                    case CHEMIN -> {
+                        if (!evenement.getChemin().isEmpty()) {
+                            afficherChemin(evenement.getChemin()); // Afficher le chemin final
+                            jouerSon(); // Jouer le son de succès
+                        }
+                        mettreAJourComparaison(comparaisonLabel);
+                        fin.run();
+                    }
+                }
+                Platform.runLater(() -> abonnement.request(1)); // Laisser le thread JavaFX dessiner avant le lot suivant
+            }
+
+            @Override
+            public void onError(Throwable erreur) {
+                tempsLabel.setText("Erreur " + algo + " : " + erreur.getMessage());
+                fin.run();
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        }, Platform::runLater);
+        Thread.startVirtualThread(() -> resolution.publier(diffusion, labyrinthe, flux));
+    }
+
+    /**
+     * Résolution d'un solveur qui alimente un flux d'exploration ({@link Solver#publierBFS} ou {@link Solver#publierDFS}).
+     */
+    @FunctionalInterface
+    private interface Publication {
+        List<Integer[]> publier(Solver solver, Labyrinthe labyrinthe, FluxExploration flux);
+    }
+
+    /**
+     * Indique si une résolution animée parcourt la grille : elle ne doit pas être modifiée pendant ce temps.
+     *
+     * @return true si l'animation n'est pas terminée
+     */
+    public boolean estAnimationEnCours() {
+        return timeline != null && timeline.getStatus() == Animation.Status.RUNNING;
+    }
+
+    /**
+     * Retourne le solveur de la dernière résolution lancée : celui de l'animation, ou celui créé
+     * pour la résolution en direct. À appeler depuis le thread JavaFX.
+     *
+     * @return le solveur dont la progression est à suivre
+     */
+    public Solver getSolverActif() { return solverActif; }
+
+    /**
+     * Fait avancer une exploration d'une étape par image clé et marque chaque case explorée.
+     *
+     * @param exploration l'exploration à animer
+     * @param delai       le délai entre chaque étape en millisecondes
+     * @param arrivee     l'action exécutée quand la sortie est atteinte
+     */
+    private void animer(Solver.Exploration exploration, int delai, Runnable arrivee) {
+        Timeline timeline = new Timeline(); // Animation avec JavaFX
+        this.timeline = timeline;
+        timeline.setCycleCount(Timeline.INDEFINITE); // Boucle infinie jusqu'à arrêt explicite
+        timeline.getKeyFrames().add(new KeyFrame(Duration.millis(delai), event -> {
+            if (!exploration.avancer()) {
+                timeline.stop(); // Arrêter si plus rien à explorer
+                return;
+            }
+            renderer.mettreAJourCase(exploration.getLigne(), exploration.getColonne(), "explore"); // Marquer comme explorée
+            if (exploration.sortieAtteinte()) { // Si la sortie est atteinte
+                timeline.stop();
+                afficherChemin(exploration.getChemin()); // Afficher le chemin final
+                jouerSon(); // Jouer le son de succès
+                arrivee.run(); // Mettre à jour les stats
+            }
+        }));
+        timeline.play(); // Lancer l'animation
+    }
+
+    /**
+     * Affiche le chemin final sur le renderer.
+     *
+     * @param chemin la liste des coordonnées du chemin
+     */
+    private void afficherChemin(List<Integer[]> chemin) {
+        for (Integer[] coord : chemin) {
+            renderer.mettreAJourCase(coord[0], coord[1], "chemin"); // Marquer chaque cellule du chemin
+        }
+    }
+
+    /**
+     * Joue le son de succès si un MediaPlayer est disponible.
+     */
+    private void jouerSon() {
+        if (mediaPlayer != null) {
+            mediaPlayer.stop(); // Arrêter le son actuel s'il joue
+            mediaPlayer.play(); // Jouer le son de succès
+        }
+    }
+
+    /**
+     * Met à jour le label de comparaison entre BFS et DFS. Une résolution animée, mesurée une seule fois
+     * et à froid, ne permet pas de départager les algorithmes : les temps sont affichés bruts, sans
+     * vainqueur, qui n'est désigné que par le banc d'essai ({@link BancEssai#conclusion}).
+     *
+     * @param comparaisonLabel le label à mettre à jour
+     */
+    private void mettreAJourComparaison(Label comparaisonLabel) {
+        if (tempsBFS > 0 && tempsDFS > 0) {
+            comparaisonLabel.setText("Comparaison : BFS " + tempsBFS + " ms, DFS " + tempsDFS
+                    + " ms (mesure unique, non significative : lancer le banc d'essai)");
+        } else if (tempsBFS > 0) {
+            comparaisonLabel.setText("Comparaison : BFS " + tempsBFS + " ms (mesure unique, DFS non exécuté)");
+        } else if (tempsDFS > 0) {
+            comparaisonLabel.setText("Comparaison : DFS " + tempsDFS + " ms (mesure unique, BFS non exécuté)");
+        }
+    }
+}
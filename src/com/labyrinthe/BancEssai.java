@@ -0,0 +1,310 @@
+package com.labyrinthe;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Banc d'essai des algorithmes de résolution : chaque algorithme est d'abord exécuté à vide (échauffement
+ * du compilateur JIT), puis mesuré plusieurs fois sur un jeu de labyrinthes générés à partir d'une graine.
+ * Le rapport donne la moyenne avec son intervalle de confiance à 95 %, les centiles 50, 95 et 99, le débit
+ * en cellules par seconde et l'allocation mémoire par résolution. Un algorithme n'est déclaré plus rapide
+ * que si le test t de Welch conclut à une différence significative.
+ */
+public class BancEssai {
+    /**
+     * Algorithme mesuré par le banc d'essai.
+     */
+    @FunctionalInterface
+    public interface Algorithme {
+        /**
+         * Résout un labyrinthe.
+         *
+         * @param labyrinthe le labyrinthe à résoudre (à ne pas modifier)
+         * @return le nombre de cellules explorées
+         */
+        long resoudre(Labyrinthe labyrinthe);
+
+        /**
+         * Prépare le jeu d'essai avant l'échauffement, hors des mesures (conversion de format par exemple).
+         *
+         * @param jeu les labyrinthes qui seront résolus
+         */
+        default void preparer(List<Labyrinthe> jeu) {
+        }
+    }
+
+    /**
+     * BFS de {@link GrilleTuilee} dans une disposition donnée. Les grilles sont converties une fois
+     * par {@link #preparer(List)} : seule la résolution est mesurée, et la disposition LIGNES, même code
+     * avec l'indice ligne par ligne, sert de référence aux dispositions TUILES et MORTON.
+     */
+    private static final class BFSGrille implements Algorithme {
+        private final GrilleTuilee.Disposition disposition; // Disposition mesurée
+        private final Map<Labyrinthe, GrilleTuilee> grilles = new IdentityHashMap<>(); // Grilles converties
+
+        private BFSGrille(GrilleTuilee.Disposition disposition) {
+            this.disposition = disposition;
+        }
+
+        @Override
+        public void preparer(List<Labyrinthe> jeu) {
+            grilles.clear();
+            for (Labyrinthe labyrinthe : jeu) {
+                grilles.put(labyrinthe, GrilleTuilee.depuis(labyrinthe, disposition));
+            }
+        }
+
+        @Override
+        public long resoudre(Labyrinthe labyrinthe) {
+            GrilleTuilee grille = grilles.computeIfAbsent(labyrinthe, l -> GrilleTuilee.depuis(l, disposition));
+            grille.resoudreBFS();
+            return grille.getCellulesExplorees();
+        }
+    }
+
+    /**
+     * Statistiques des mesures d'un algorithme.
+     */
+    public static final class Resultat {
+        private final String nom; // Nom de l'algorithme
+        private final long[] temps; // Durées mesurées en nanosecondes, triées
+        private final double moyenne; // Durée moyenne en nanosecondes
+        private final double ecartType; // Écart-type de l'échantillon en nanosecondes
+        private final double cellulesParSeconde; // Débit moyen
+        private final double octetsParResolution; // Allocation moyenne, -1 si non mesurable
+
+        private Resultat(String nom, long[] temps, long cellules, long octets) {
+            this.nom = nom;
+            this.temps = temps.clone();
+            Arrays.sort(this.temps);
+            long total = 0;
+            for (long t : temps) total += t;
+            moyenne = (double) total / temps.length;
+            double somme = 0;
+            for (long t : temps) somme += (t - moyenne) * (t - moyenne);
+            ecartType = temps.length > 1 ? Math.sqrt(somme / (temps.length - 1)) : 0;
+            cellulesParSeconde = total > 0 ? cellules * 1e9 / total : 0;
+            octetsParResolution = octets < 0 ? -1 : (double) octets / temps.length;
+        }
+
+        /**
+         * Retourne le nom de l'algorithme.
+         *
+         * @return le nom
+         */
+        public String getNom() { return nom; }
+
+        /**
+         * Retourne la durée moyenne d'une résolution.
+         *
+         * @return la moyenne en nanosecondes
+         */
+        public double getMoyenne() { return moyenne; }
+
+        /**
+         * Retourne la demi-largeur de l'intervalle de confiance à 95 % de la moyenne.
+         *
+         * @return la demi-largeur en nanosecondes
+         */
+        public double getDemiIntervalle() {
+            return temps.length > 1 ? quantileStudent(temps.length - 1) * ecartType / Math.sqrt(temps.length) : 0;
+        }
+
+        /**
+         * Retourne un centile des durées (méthode du rang le plus proche).
+         *
+         * @param p le centile, entre 0 et 100
+         * @return la durée en nanosecondes
+         */
+        public long centile(double p) {
+            int rang = (int) Math.ceil(p / 100 * temps.length);
+            return temps[Math.max(0, Math.min(temps.length - 1, rang - 1))];
+        }
+
+        /**
+         * Retourne le débit moyen.
+         *
+         * @return le nombre de cellules explorées par seconde
+         */
+        public double getCellulesParSeconde() { return cellulesParSeconde; }
+
+        /**
+         * Retourne l'allocation moyenne par résolution.
+         *
+         * @return le nombre d'octets alloués, ou -1 si la JVM ne le mesure pas
+         */
+        public double getOctetsParResolution() { return octetsParResolution; }
+
+        /**
+         * Compare la moyenne à celle d'un autre algorithme avec le test t de Welch (bilatéral, 5 %).
+         *
+         * @param autre l'autre résultat
+         * @return true si la différence des moyennes est significative
+         */
+        public boolean differeSignificativement(Resultat autre) {
+            int n1 = temps.length, n2 = autre.temps.length;
+            if (n1 < 2 || n2 < 2) return false;
+            double v1 = ecartType * ecartType / n1;
+            double v2 = autre.ecartType * autre.ecartType / n2;
+            if (v1 + v2 == 0) return moyenne != autre.moyenne;
+            double t = Math.abs(moyenne - autre.moyenne) / Math.sqrt(v1 + v2);
+            double ddl = (v1 + v2) * (v1 + v2) / (v1 * v1 / (n1 - 1) + v2 * v2 / (n2 - 1)); // Welch-Satterthwaite
+            return t > quantileStudent((int) Math.floor(ddl));
+        }
+    }
+
+    /** Quantiles 97,5 % de la loi de Student pour 1 à 30 degrés de liberté. */
+    private static final double[] QUANTILES_STUDENT = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    private final int hauteur; // Hauteur des labyrinthes générés
+    private final int largeur; // Largeur des labyrinthes générés
+    private final int nombreLabyrinthes; // Nombre de labyrinthes du jeu d'essai
+    private final long graine; // Graine du jeu d'essai
+    private final int echauffement; // Résolutions non mesurées par algorithme
+    private final int mesures; // Résolutions mesurées par algorithme
+    private final Map<String, Algorithme> algorithmes = new LinkedHashMap<>(); // Algorithmes comparés
+
+    /**
+     * Prépare un banc d'essai avec les algorithmes de résolution disponibles.
+     *
+     * @param hauteur           la hauteur des labyrinthes
+     * @param largeur           la largeur des labyrinthes
+     * @param nombreLabyrinthes le nombre de labyrinthes générés (parcourus à tour de rôle)
+     * @param graine            la graine du jeu de labyrinthes
+     * @param echauffement      le nombre de résolutions d'échauffement par algorithme
+     * @param mesures           le nombre de résolutions mesurées par algorithme (au moins 2)
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public BancEssai(int hauteur, int largeur, int nombreLabyrinthes, long graine, int echauffement, int mesures) {
+        if (nombreLabyrinthes < 1 || echauffement < 0 || mesures < 2) {
+            throw new IllegalArgumentException("Il faut au moins un labyrinthe et deux mesures.");
+        }
+        this.hauteur = hauteur;
+        this.largeur = largeur;
+        this.nombreLabyrinthes = nombreLabyrinthes;
+        this.graine = graine;
+        this.echauffement = echauffement;
+        this.mesures = mesures;
+
+        // Algorithmes enregistrés directement : ajouter() peut être redéfinie.
+        // BFS et DFS réutilisent un même espace de travail, le banc s'exécutant sur un seul thread.
+        Solver.EspaceTravail espace = new Solver.EspaceTravail();
+        algorithmes.put("BFS", l -> { Solver s = new Solver(l, espace); s.resoudreBFS(l); return s.getCellulesExploreesBFS(); });
+        algorithmes.put("DFS", l -> { Solver s = new Solver(l, espace); s.resoudreDFS(l); return s.getCellulesExploreesDFS(); });
+        algorithmes.put("Dijkstra", l -> { Solver s = new Solver(l); s.resoudreDijkstra(l); return s.getCellulesExploreesDijkstra(); });
+        algorithmes.put("BFS bit-parallèle", l -> { SolveurBitParallele s = new SolveurBitParallele(l); s.resoudre(); return s.getCellulesExplorees(); });
+        algorithmes.put("Graphe des jonctions", l -> { GrapheJonctions g = new GrapheJonctions(l); g.resoudre(); return g.getCellulesCouvertes(); });
+        for (GrilleTuilee.Disposition disposition : GrilleTuilee.Disposition.values()) { // Dispositions mémoire comparées
+            algorithmes.put("BFS grille " + disposition, new BFSGrille(disposition));
+        }
+    }
+
+    /**
+     * Ajoute ou remplace un algorithme à comparer.
+     *
+     * @param nom        le nom affiché
+     * @param algorithme l'algorithme
+     */
+    public void ajouter(String nom, Algorithme algorithme) {
+        algorithmes.put(nom, algorithme);
+    }
+
+    /**
+     * Exécute le banc d'essai sur le thread appelant.
+     *
+     * @return les résultats, dans l'ordre d'ajout des algorithmes
+     */
+    public List<Resultat> executer() {
+        List<Labyrinthe> jeu = Labyrinthe.genererLot(nombreLabyrinthes, hauteur, largeur, graine);
+        ThreadMXBean mxBean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocations = mxBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) mxBean).isThreadAllocatedMemorySupported()
+                ? (com.sun.management.ThreadMXBean) mxBean : null;
+
+        List<Resultat> resultats = new ArrayList<>();
+        for (Map.Entry<String, Algorithme> entree : algorithmes.entrySet()) {
+            Algorithme algorithme = entree.getValue();
+            algorithme.preparer(jeu);
+            for (int i = 0; i < echauffement; i++) {
+                algorithme.resoudre(jeu.get(i % jeu.size()));
+            }
+            long[] temps = new long[mesures];
+            long cellules = 0;
+            long octets = 0;
+            for (int i = 0; i < mesures; i++) {
+                Labyrinthe labyrinthe = jeu.get(i % jeu.size());
+                long alloueAvant = allocations != null ? allocations.getCurrentThreadAllocatedBytes() : 0;
+                long debut = System.nanoTime();
+                cellules += algorithme.resoudre(labyrinthe);
+                temps[i] = System.nanoTime() - debut;
+                if (allocations != null) octets += allocations.getCurrentThreadAllocatedBytes() - alloueAvant;
+            }
+            resultats.add(new Resultat(entree.getKey(), temps, cellules, allocations != null ? octets : -1));
+        }
+        return resultats;
+    }
+
+    /**
+     * Met en forme les résultats sous forme de tableau, suivi de la conclusion de la comparaison.
+     *
+     * @param resultats les résultats de {@link #executer()}
+     * @return le rapport, sur plusieurs lignes
+     */
+    public String rapport(List<Resultat> resultats) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "Banc d'essai : %d labyrinthe(s) %dx%d, graine %d, %d échauffement(s), %d mesure(s)%n",
+                nombreLabyrinthes, largeur, hauteur, graine, echauffement, mesures));
+        sb.append(String.format(Locale.ROOT, "%-22s %20s %10s %10s %10s %12s %12s%n",
+                "Algorithme", "Moyenne (ms)", "p50", "p95", "p99", "Mcell/s", "Ko/résol."));
+        for (Resultat r : resultats) {
+            sb.append(String.format(Locale.ROOT, "%-22s %11.3f ± %6.3f %10.3f %10.3f %10.3f %12.2f %12s%n",
+                    r.getNom(), r.getMoyenne() / 1e6, r.getDemiIntervalle() / 1e6,
+                    r.centile(50) / 1e6, r.centile(95) / 1e6, r.centile(99) / 1e6,
+                    r.getCellulesParSeconde() / 1e6,
+                    r.getOctetsParResolution() < 0 ? "-" : String.format(Locale.ROOT, "%.1f", r.getOctetsParResolution() / 1024)));
+        }
+        sb.append(conclusion(resultats));
+        return sb.toString();
+    }
+
+    /**
+     * Désigne l'algorithme le plus rapide si sa moyenne diffère significativement de celle du suivant.
+     *
+     * @param resultats les résultats de {@link #executer()}
+     * @return la conclusion, sur une ligne
+     */
+    public static String conclusion(List<Resultat> resultats) {
+        if (resultats.size() < 2) {
+            return "Comparaison : un seul algorithme mesuré";
+        }
+        List<Resultat> tries = new ArrayList<>(resultats);
+        tries.sort((a, b) -> Double.compare(a.getMoyenne(), b.getMoyenne()));
+        Resultat premier = tries.get(0);
+        Resultat second = tries.get(1);
+        if (premier.differeSignificativement(second)) {
+            return String.format(Locale.ROOT, "Comparaison : %s plus rapide que %s (%.3f ms vs %.3f ms, p < 0,05)",
+                    premier.getNom(), second.getNom(), premier.getMoyenne() / 1e6, second.getMoyenne() / 1e6);
+        }
+        return "Comparaison : " + premier.getNom() + " et " + second.getNom()
+                + " non départagés (différence non significative, augmenter le nombre de mesures)";
+    }
+
+    /**
+     * Retourne le quantile 97,5 % de la loi de Student, approché par la loi normale au-delà de 30 degrés.
+     */
+    private static double quantileStudent(int degres) {
+        if (degres < 1) return QUANTILES_STUDENT[0];
+        return degres <= QUANTILES_STUDENT.length ? QUANTILES_STUDENT[degres - 1] : 1.96;
+    }
+}
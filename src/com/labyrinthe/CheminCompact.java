@@ -0,0 +1,258 @@
+package com.labyrinthe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Chemin compact : une case de départ puis une direction de 2 bits par pas, rangées 32 par long.
+ * Un point de contrôle (coordonnées de la case) est mémorisé tous les 256 pas pour l'accès direct.
+ * Un chemin occupe ainsi environ 0,3 octet par pas, contre plus de 60 octets dans une
+ * {@code List<Integer[]>}. Les directions sont celles des solveurs : 0 = haut, 1 = bas, 2 = gauche, 3 = droite.
+ */
+public final class CheminCompact implements Iterable<Integer[]> {
+    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}; // Haut, bas, gauche, droite
+    private static final int BITS_CONTROLE = 8; // Un point de contrôle tous les 256 pas
+    private static final int PAS_PAR_MOT = 32; // 2 bits par pas dans un long
+
+    private long[] pas; // Directions successives, 2 bits par pas
+    private int[] controles; // Coordonnées (x, y) de la case atteinte tous les 256 pas
+    private int nombrePas; // Nombre de déplacements
+    private int finX, finY; // Dernière case du chemin
+    private final boolean vide; // Chemin sans aucune case (aucun chemin trouvé)
+
+    /**
+     * Commence un chemin réduit à sa case de départ.
+     *
+     * @param departX la coordonnée X de départ
+     * @param departY la coordonnée Y de départ
+     */
+    public CheminCompact(int departX, int departY) {
+        this(departX, departY, 0);
+    }
+
+    /**
+     * Commence un chemin en réservant la place pour un nombre de pas connu.
+     *
+     * @param departX   la coordonnée X de départ
+     * @param departY   la coordonnée Y de départ
+     * @param capacite  le nombre de pas prévus
+     */
+    public CheminCompact(int departX, int departY, int capacite) {
+        pas = new long[Math.max(1, (capacite + PAS_PAR_MOT - 1) / PAS_PAR_MOT)];
+        controles = new int[2 * ((capacite >>> BITS_CONTROLE) + 1)];
+        controles[0] = departX;
+        controles[1] = departY;
+        finX = departX;
+        finY = departY;
+        vide = false;
+    }
+
+    private CheminCompact() {
+        pas = new long[0];
+        controles = new int[0];
+        vide = true;
+    }
+
+    /**
+     * Retourne un chemin vide, équivalent à une liste vide (aucun chemin trouvé).
+     *
+     * @return un nouveau chemin vide
+     */
+    public static CheminCompact vide() {
+        return new CheminCompact();
+    }
+
+    /**
+     * Convertit un chemin sous forme de liste de coordonnées.
+     *
+     * @param chemin la liste des coordonnées, chaque case étant voisine de la précédente
+     * @return le chemin compact équivalent
+     * @throws IllegalArgumentException si deux cases successives ne sont pas voisines
+     */
+    public static CheminCompact depuisListe(List<Integer[]> chemin) {
+        if (chemin.isEmpty()) {
+            return vide();
+        }
+        Integer[] depart = chemin.get(0);
+        CheminCompact compact = new CheminCompact(depart[0], depart[1], chemin.size() - 1);
+        for (int i = 1; i < chemin.size(); i++) {
+            Integer[] coord = chemin.get(i);
+            compact.ajouterCase(coord[0], coord[1]);
+        }
+        return compact;
+    }
+
+    /**
+     * Prolonge le chemin d'un pas.
+     *
+     * @param direction 0 = haut, 1 = bas, 2 = gauche, 3 = droite
+     * @throws IllegalArgumentException si la direction est invalide
+     * @throws IllegalStateException    si le chemin est vide
+     */
+    public void ajouter(int direction) {
+        if (direction < 0 || direction > 3) {
+            throw new IllegalArgumentException("Direction invalide : " + direction);
+        }
+        if (vide) {
+            throw new IllegalStateException("Un chemin vide ne peut pas être prolongé.");
+        }
+        int mot = nombrePas / PAS_PAR_MOT;
+        if (mot == pas.length) {
+            pas = Arrays.copyOf(pas, pas.length * 2);
+        }
+        pas[mot] |= (long) direction << (2 * (nombrePas % PAS_PAR_MOT));
+        nombrePas++;
+        finX += DIRECTIONS[direction][0];
+        finY += DIRECTIONS[direction][1];
+        if ((nombrePas & ((1 << BITS_CONTROLE) - 1)) == 0) {
+            int c = 2 * (nombrePas >>> BITS_CONTROLE);
+            if (c + 1 >= controles.length) {
+                controles = Arrays.copyOf(controles, controles.length * 2);
+            }
+            controles[c] = finX;
+            controles[c + 1] = finY;
+        }
+    }
+
+    /**
+     * Prolonge le chemin jusqu'à une case voisine de sa dernière case.
+     *
+     * @param x la coordonnée X de la case
+     * @param y la coordonnée Y de la case
+     * @throws IllegalArgumentException si la case n'est pas voisine de la dernière case
+     */
+    public void ajouterCase(int x, int y) {
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            if (finX + DIRECTIONS[d][0] == x && finY + DIRECTIONS[d][1] == y) {
+                ajouter(d);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("La case (" + x + ", " + y + ") n'est pas voisine de ("
+                + finX + ", " + finY + ").");
+    }
+
+    /**
+     * Retourne la direction d'un pas.
+     *
+     * @param i l'indice du pas (0 pour le premier déplacement)
+     * @return la direction, de 0 à 3
+     */
+    public int direction(int i) {
+        return (int) (pas[i / PAS_PAR_MOT] >>> (2 * (i % PAS_PAR_MOT))) & 3;
+    }
+
+    /**
+     * Retourne le nombre de cases du chemin, comme {@code size()} sur la liste équivalente.
+     *
+     * @return le nombre de cases (nombre de pas + 1), ou 0 pour un chemin vide
+     */
+    public int taille() {
+        return vide ? 0 : nombrePas + 1;
+    }
+
+    /**
+     * Retourne le nombre de déplacements du chemin.
+     *
+     * @return le nombre de pas
+     */
+    public int getNombrePas() { return nombrePas; }
+
+    /**
+     * Indique si le chemin est vide.
+     *
+     * @return true si le chemin ne contient aucune case
+     */
+    public boolean estVide() { return vide; }
+
+    /**
+     * Retourne une case du chemin en partant du point de contrôle le plus proche (au plus 255 pas rejoués).
+     *
+     * @param i l'indice de la case (0 pour le départ)
+     * @return les coordonnées {x, y} de la case
+     * @throws IndexOutOfBoundsException si l'indice est hors du chemin
+     */
+    public Integer[] get(int i) {
+        if (i < 0 || i >= taille()) {
+            throw new IndexOutOfBoundsException("Indice " + i + " hors du chemin de taille " + taille());
+        }
+        int c = i >>> BITS_CONTROLE;
+        int x = controles[2 * c];
+        int y = controles[2 * c + 1];
+        for (int k = c << BITS_CONTROLE; k < i; k++) {
+            int[] dir = DIRECTIONS[direction(k)];
+            x += dir[0];
+            y += dir[1];
+        }
+        return new Integer[]{x, y};
+    }
+
+    /**
+     * Parcourt les cases du chemin, du départ vers la fin, sans allocation.
+     *
+     * @param visiteur le traitement appliqué à chaque case
+     */
+    public void parcourir(VisiteurCase visiteur) {
+        if (vide) {
+            return;
+        }
+        int x = controles[0];
+        int y = controles[1];
+        visiteur.visiter(x, y);
+        for (int k = 0; k < nombrePas; k++) {
+            int[] dir = DIRECTIONS[direction(k)];
+            x += dir[0];
+            y += dir[1];
+            visiteur.visiter(x, y);
+        }
+    }
+
+    /**
+     * Parcourt les cases du chemin sous la même forme que la liste de coordonnées.
+     *
+     * @return un itérateur sur les coordonnées {x, y}
+     */
+    @Override
+    public Iterator<Integer[]> iterator() {
+        return new Iterator<>() {
+            private int suivant = 0; // Indice de la prochaine case
+            private int x = vide ? 0 : controles[0];
+            private int y = vide ? 0 : controles[1];
+
+            @Override
+            public boolean hasNext() {
+                return suivant < taille();
+            }
+
+            @Override
+            public Integer[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (suivant > 0) {
+                    int[] dir = DIRECTIONS[direction(suivant - 1)];
+                    x += dir[0];
+                    y += dir[1];
+                }
+                suivant++;
+                return new Integer[]{x, y};
+            }
+        };
+    }
+
+    /**
+     * Convertit le chemin en liste de coordonnées, pour le code qui attend l'ancienne forme.
+     *
+     * @return la liste des coordonnées du chemin
+     */
+    public List<Integer[]> versListe() {
+        List<Integer[]> chemin = new ArrayList<>(taille());
+        for (Integer[] coord : this) {
+            chemin.add(coord);
+        }
+        return chemin;
+    }
+}
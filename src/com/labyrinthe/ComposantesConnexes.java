@@ -0,0 +1,176 @@
+package com.labyrinthe;
+
+import java.util.stream.IntStream;
+
+/**
+ * Étiquetage des composantes connexes d'un labyrinthe : chaque case ouverte reçoit le numéro de sa région,
+ * si bien que savoir si deux cases sont reliées, ou connaître la taille d'une région, se fait en O(1).
+ * Utile pour les labyrinthes importés ou modifiés, qui ne sont plus forcément parfaits.
+ *
+ * <p>L'étiquetage se fait en deux passes sur des bandes de lignes : chaque bande est d'abord réunie
+ * en parallèle par une union-find sur les indices de ses propres cases, puis les frontières entre bandes
+ * sont fusionnées, et une dernière passe parallèle remplace chaque case par le numéro compact de sa racine.</p>
+ *
+ * <p>L'index est figé à sa construction : il faut le reconstruire après une modification de la grille.</p>
+ */
+public final class ComposantesConnexes {
+    private static final int LIGNES_PAR_BANDE = 64; // Hauteur des bandes traitées en parallèle
+
+    private final int largeur; // Largeur de la grille
+    private final int hauteur; // Hauteur de la grille
+    private final int[] composante; // Numéro de composante de chaque case (ligne * largeur + colonne), -1 pour un mur
+    private final int[] tailles; // Nombre de cases de chaque composante
+
+    /**
+     * Étiquette les composantes du labyrinthe.
+     *
+     * @param labyrinthe le labyrinthe à indexer
+     */
+    public ComposantesConnexes(Labyrinthe labyrinthe) {
+        char[][] grid = labyrinthe.getGrid();
+        hauteur = grid.length;
+        largeur = grid[0].length;
+        int[] parent = new int[hauteur * largeur];
+        int bandes = (hauteur + LIGNES_PAR_BANDE - 1) / LIGNES_PAR_BANDE;
+
+        // Première passe : chaque bande ne touche qu'à ses propres cases, les bandes sont donc indépendantes
+        IntStream.range(0, bandes).parallel().forEach(b -> {
+            int fin = Math.min(hauteur, (b + 1) * LIGNES_PAR_BANDE);
+            for (int i = b * LIGNES_PAR_BANDE; i < fin; i++) {
+                for (int j = 0; j < largeur; j++) {
+                    int c = i * largeur + j;
+                    if (grid[i][j] == '#') {
+                        parent[c] = -1;
+                        continue;
+                    }
+                    parent[c] = c;
+                    if (j > 0 && grid[i][j - 1] != '#') unir(parent, c, c - 1); // Voisin de gauche
+                    if (i > b * LIGNES_PAR_BANDE && grid[i - 1][j] != '#') unir(parent, c, c - largeur); // Voisin du dessus
+                }
+            }
+        });
+
+        // Fusion des frontières : la première ligne de chaque bande avec la dernière de la précédente
+        for (int b = 1; b < bandes; b++) {
+            int i = b * LIGNES_PAR_BANDE;
+            for (int j = 0; j < largeur; j++) {
+                if (grid[i][j] != '#' && grid[i - 1][j] != '#') unir(parent, i * largeur + j, (i - 1) * largeur + j);
+            }
+        }
+
+        // Numérotation compacte des racines, dans l'ordre des cases
+        composante = new int[hauteur * largeur];
+        int nombre = 0;
+        for (int c = 0; c < parent.length; c++) {
+            if (parent[c] == c) composante[c] = nombre++;
+        }
+        tailles = new int[nombre];
+
+        // Seconde passe : chaque case prend le numéro de sa racine (lectures seules de parent, sans compression)
+        IntStream.range(0, bandes).parallel().forEach(b -> {
+            int debut = b * LIGNES_PAR_BANDE * largeur;
+            int fin = Math.min(hauteur, (b + 1) * LIGNES_PAR_BANDE) * largeur;
+            for (int c = debut; c < fin; c++) {
+                if (parent[c] < 0) {
+                    composante[c] = -1;
+                } else if (parent[c] != c) {
+                    int r = c;
+                    while (parent[r] != r) r = parent[r];
+                    composante[c] = composante[r]; // Les racines ont déjà leur numéro définitif
+                }
+            }
+        });
+        for (int id : composante) {
+            if (id >= 0) tailles[id]++;
+        }
+    }
+
+    /**
+     * Cherche la racine d'une case en compressant le chemin (division par deux).
+     */
+    private static int trouver(int[] parent, int c) {
+        while (parent[c] != c) {
+            parent[c] = parent[parent[c]];
+            c = parent[c];
+        }
+        return c;
+    }
+
+    /**
+     * Réunit deux composantes ; la plus petite racine l'emporte.
+     */
+    private static void unir(int[] parent, int a, int b) {
+        int ra = trouver(parent, a), rb = trouver(parent, b);
+        if (ra < rb) {
+            parent[rb] = ra;
+        } else if (rb < ra) {
+            parent[ra] = rb;
+        }
+    }
+
+    /**
+     * Retourne le numéro de la composante d'une case.
+     *
+     * @param x la ligne de la case
+     * @param y la colonne de la case
+     * @return le numéro de composante (de 0 à {@link #getNombreComposantes()} - 1), ou -1 pour un mur
+     */
+    public int composante(int x, int y) {
+        return composante[x * largeur + y];
+    }
+
+    /**
+     * Indique si deux cases sont reliées par des cases ouvertes.
+     *
+     * @param x1 la ligne de la première case
+     * @param y1 la colonne de la première case
+     * @param x2 la ligne de la seconde case
+     * @param y2 la colonne de la seconde case
+     * @return true si les deux cases sont ouvertes et dans la même composante
+     */
+    public boolean sontConnectees(int x1, int y1, int x2, int y2) {
+        int c = composante(x1, y1);
+        return c >= 0 && c == composante(x2, y2);
+    }
+
+    /**
+     * Retourne le nombre de cases de la région contenant une case.
+     *
+     * @param x la ligne de la case
+     * @param y la colonne de la case
+     * @return la taille de la région, 0 pour un mur
+     */
+    public int tailleRegion(int x, int y) {
+        int c = composante(x, y);
+        return c < 0 ? 0 : tailles[c];
+    }
+
+    /**
+     * Retourne le nombre de cases d'une composante.
+     *
+     * @param id le numéro de composante
+     * @return le nombre de cases
+     */
+    public int getTaille(int id) { return tailles[id]; }
+
+    /**
+     * Retourne le nombre de composantes (régions ouvertes séparées par des murs).
+     *
+     * @return le nombre de composantes
+     */
+    public int getNombreComposantes() { return tailles.length; }
+
+    /**
+     * Retourne la hauteur de la grille indexée.
+     *
+     * @return le nombre de lignes
+     */
+    public int getHeight() { return hauteur; }
+
+    /**
+     * Retourne la largeur de la grille indexée.
+     *
+     * @return le nombre de colonnes
+     */
+    public int getWidth() { return largeur; }
+}
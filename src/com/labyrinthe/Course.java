@@ -0,0 +1,207 @@
+package com.labyrinthe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Course entre algorithmes : chaque moteur de résolution s'exécute sur son propre thread, en même temps
+ * que les autres, sur une copie figée du labyrinthe partagée en lecture seule. La progression et le temps
+ * écoulé de chaque concurrent peuvent être lus à tout moment depuis un autre thread (l'interface par exemple).
+ */
+public class Course {
+    /**
+     * Un moteur de résolution engagé dans la course.
+     */
+    public static final class Concurrent {
+        private final String nom; // Nom affiché
+        private final String unite; // Unité de la progression (étapes, cellules, nœuds...)
+        private final Supplier<List<Integer[]>> resolution; // Résolution complète, exécutée sur le thread du concurrent
+        private final IntSupplier progression; // Travail effectué, lisible pendant la résolution
+        private volatile long debut; // Instant de départ (System.nanoTime)
+        private volatile long fin; // Instant d'arrivée, 0 tant que la résolution est en cours
+        private volatile List<Integer[]> chemin = Collections.emptyList(); // Chemin trouvé
+        private volatile Throwable erreur; // Exception levée par la résolution, le cas échéant
+
+        /**
+         * Crée un concurrent dont la progression est exprimée dans une unité donnée.
+         *
+         * @param nom         le nom affiché
+         * @param unite       l'unité de la progression, affichée avec elle ("Étapes", "Cellules", "Nœuds"...)
+         * @param resolution  la résolution à exécuter
+         * @param progression le travail effectué jusqu'ici, éventuellement approximatif
+         */
+        public Concurrent(String nom, String unite, Supplier<List<Integer[]>> resolution, IntSupplier progression) {
+            this.nom = nom;
+            this.unite = unite;
+            this.resolution = resolution;
+            this.progression = progression;
+        }
+
+        /**
+         * Crée un concurrent dont la progression compte des étapes.
+         *
+         * @param nom         le nom affiché
+         * @param resolution  la résolution à exécuter
+         * @param progression le nombre d'étapes effectuées jusqu'ici, éventuellement approximatif
+         */
+        public Concurrent(String nom, Supplier<List<Integer[]>> resolution, IntSupplier progression) {
+            this(nom, "Étapes", resolution, progression);
+        }
+
+        private void courir() {
+            debut = System.nanoTime();
+            try {
+                chemin = resolution.get();
+            } catch (RuntimeException | OutOfMemoryError e) {
+                erreur = e;
+            } finally {
+                fin = System.nanoTime();
+            }
+        }
+
+        /**
+         * Retourne le nom du concurrent.
+         *
+         * @return le nom
+         */
+        public String getNom() { return nom; }
+
+        /**
+         * Retourne l'unité de la progression : les concurrents ne comptent pas tous la même chose.
+         *
+         * @return l'unité affichée avec la progression
+         */
+        public String getUnite() { return unite; }
+
+        /**
+         * Retourne le travail effectué jusqu'ici, dans l'unité de {@link #getUnite()}.
+         *
+         * @return le nombre d'étapes, de cellules ou de nœuds
+         */
+        public int getProgression() { return progression.getAsInt(); }
+
+        /**
+         * Indique si le concurrent a terminé (avec ou sans chemin, ou en erreur).
+         *
+         * @return true si la résolution est finie
+         */
+        public boolean estArrive() { return fin != 0; }
+
+        /**
+         * Retourne le temps écoulé depuis le départ, ou la durée totale une fois arrivé.
+         *
+         * @return le temps en nanosecondes, 0 avant le départ
+         */
+        public long getTempsEcoule() {
+            long d = debut;
+            if (d == 0) return 0;
+            long f = fin;
+            return (f != 0 ? f : System.nanoTime()) - d;
+        }
+
+        /**
+         * Retourne le chemin trouvé, vide tant que le concurrent n'est pas arrivé.
+         *
+         * @return la liste des coordonnées du chemin
+         */
+        public List<Integer[]> getChemin() { return chemin; }
+
+        /**
+         * Retourne l'exception levée par la résolution.
+         *
+         * @return l'exception, ou null
+         */
+        public Throwable getErreur() { return erreur; }
+    }
+
+    private final Labyrinthe labyrinthe; // Copie figée du labyrinthe, lue par tous les concurrents
+    private final List<Concurrent> concurrents = new ArrayList<>(); // Concurrents engagés
+
+    /**
+     * Prépare une course avec tous les moteurs de résolution disponibles.
+     * Le labyrinthe est copié : le modifier pendant la course n'a aucune influence.
+     *
+     * @param labyrinthe le labyrinthe à résoudre
+     */
+    public Course(Labyrinthe labyrinthe) {
+        this.labyrinthe = labyrinthe.copier();
+        Labyrinthe copie = this.labyrinthe;
+
+        // Les moteurs sont engagés directement dans la liste : ajouter() peut être redéfinie
+        Solver bfs = new Solver(copie);
+        concurrents.add(new Concurrent("BFS", () -> bfs.resoudreBFS(copie), bfs::getProgression));
+        Solver dfs = new Solver(copie);
+        concurrents.add(new Concurrent("DFS", () -> dfs.resoudreDFS(copie), dfs::getProgression));
+        Solver dijkstra = new Solver(copie);
+        concurrents.add(new Concurrent("Dijkstra", () -> dijkstra.resoudreDijkstra(copie), dijkstra::getProgression));
+
+        // Moteurs sans compteur en direct : leur statistique n'est fiable qu'à l'arrivée.
+        // Le moteur est publié par une référence atomique, lue par le thread de l'interface.
+        AtomicReference<SolveurBitParallele> bitParallele = new AtomicReference<>();
+        concurrents.add(new Concurrent("BFS bit-parallèle", "Cellules", () -> {
+            SolveurBitParallele moteur = new SolveurBitParallele(copie); // Préparation du masque comprise dans le temps
+            bitParallele.set(moteur);
+            return moteur.resoudre();
+        }, () -> {
+            SolveurBitParallele moteur = bitParallele.get();
+            return moteur == null ? 0 : (int) moteur.getCellulesExplorees();
+        }));
+        AtomicReference<GrapheJonctions> jonctions = new AtomicReference<>();
+        concurrents.add(new Concurrent("Graphe des jonctions", "Nœuds", () -> {
+            GrapheJonctions graphe = new GrapheJonctions(copie); // Contraction des couloirs comprise dans le temps
+            jonctions.set(graphe);
+            return graphe.resoudre();
+        }, () -> {
+            GrapheJonctions graphe = jonctions.get();
+            return graphe == null ? 0 : graphe.getNoeudsExplores();
+        }));
+    }
+
+    /**
+     * Engage un concurrent supplémentaire ; à appeler avant {@link #demarrer()}.
+     *
+     * @param concurrent le concurrent à ajouter
+     */
+    public void ajouter(Concurrent concurrent) {
+        concurrents.add(concurrent);
+    }
+
+    /**
+     * Lance tous les concurrents en même temps, chacun sur son propre thread démon.
+     *
+     * @return un futur complété lorsque tous les concurrents sont arrivés
+     */
+    public CompletableFuture<Void> demarrer() {
+        List<CompletableFuture<Void>> arrivees = new ArrayList<>();
+        for (Concurrent concurrent : concurrents) {
+            CompletableFuture<Void> arrivee = new CompletableFuture<>();
+            Thread thread = new Thread(() -> {
+                concurrent.courir();
+                arrivee.complete(null);
+            }, "course-" + concurrent.getNom());
+            thread.setDaemon(true);
+            arrivees.add(arrivee);
+            thread.start();
+        }
+        return CompletableFuture.allOf(arrivees.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Retourne la copie du labyrinthe sur laquelle court chaque concurrent.
+     *
+     * @return le labyrinthe de la course
+     */
+    public Labyrinthe getLabyrinthe() { return labyrinthe; }
+
+    /**
+     * Retourne les concurrents, dans l'ordre d'engagement.
+     *
+     * @return la liste des concurrents
+     */
+    public List<Concurrent> getConcurrents() { return Collections.unmodifiableList(concurrents); }
+}
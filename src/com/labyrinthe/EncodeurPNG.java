@@ -0,0 +1,198 @@
+package com.labyrinthe;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Encodeur PNG à palette (8 bits par pixel) sans JavaFX ni AWT.
+ * L'image est découpée en bandes de lignes compressées en parallèle, chacune par son propre
+ * {@link Deflater} terminé par un SYNC_FLUSH : les flux compressés se concatènent alors en un seul
+ * flux zlib valide, dont la somme Adler-32 est recombinée à partir de celles des bandes.
+ * Les bandes sont traitées par lots d'au plus un par processeur, si bien que la mémoire utilisée
+ * ne dépend pas de la hauteur de l'image.
+ */
+public final class EncodeurPNG {
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final int OCTETS_PAR_BANDE = 1 << 20; // Environ 1 Mo de pixels par bande
+    private static final int MODULE_ADLER = 65521;
+
+    /**
+     * Fournit les pixels de l'image ligne par ligne, sous forme d'indices dans la palette.
+     * Les lignes peuvent être demandées simultanément par plusieurs threads.
+     */
+    @FunctionalInterface
+    public interface SourceLignes {
+        /**
+         * Remplit une ligne de pixels.
+         *
+         * @param ligne   l'indice de la ligne (0 en haut)
+         * @param indices le tableau à remplir, de la largeur de l'image
+         */
+        void remplirLigne(int ligne, byte[] indices);
+    }
+
+    private final int largeur; // Largeur de l'image en pixels
+    private final int hauteur; // Hauteur de l'image en pixels
+    private final int[] palette; // Couleurs 0xRRGGBB, au plus 256
+    private final int lignesParBande; // Nombre de lignes compressées ensemble
+
+    /**
+     * Prépare l'encodage d'une image de dimensions et de palette données.
+     *
+     * @param largeur la largeur en pixels
+     * @param hauteur la hauteur en pixels
+     * @param palette les couleurs 0xRRGGBB de la palette (1 à 256)
+     * @throws IllegalArgumentException si les dimensions ou la palette sont invalides
+     */
+    public EncodeurPNG(int largeur, int hauteur, int[] palette) {
+        if (largeur <= 0 || hauteur <= 0 || largeur >= Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Dimensions d'image invalides : " + largeur + "x" + hauteur);
+        }
+        if (palette.length == 0 || palette.length > 256) {
+            throw new IllegalArgumentException("La palette doit contenir entre 1 et 256 couleurs.");
+        }
+        this.largeur = largeur;
+        this.hauteur = hauteur;
+        this.palette = palette.clone();
+        this.lignesParBande = Math.max(1, OCTETS_PAR_BANDE / (largeur + 1));
+    }
+
+    /**
+     * Encode l'image dans un flux (qui n'est pas fermé).
+     *
+     * @param source la source des lignes de pixels
+     * @param sortie le flux de destination
+     * @throws IOException si l'écriture échoue
+     */
+    public void encoder(SourceLignes source, OutputStream sortie) throws IOException {
+        DataOutputStream flux = new DataOutputStream(sortie);
+        flux.write(SIGNATURE);
+
+        ByteArrayOutputStream entete = new ByteArrayOutputStream();
+        DataOutputStream donnees = new DataOutputStream(entete);
+        donnees.writeInt(largeur);
+        donnees.writeInt(hauteur);
+        donnees.writeByte(8); // 8 bits par pixel
+        donnees.writeByte(3); // Image à palette
+        donnees.writeByte(0); // Compression deflate
+        donnees.writeByte(0); // Filtrage standard
+        donnees.writeByte(0); // Sans entrelacement
+        ecrireBloc(flux, "IHDR", entete.toByteArray(), entete.size());
+
+        byte[] couleurs = new byte[palette.length * 3];
+        for (int i = 0; i < palette.length; i++) {
+            couleurs[3 * i] = (byte) (palette[i] >>> 16);
+            couleurs[3 * i + 1] = (byte) (palette[i] >>> 8);
+            couleurs[3 * i + 2] = (byte) palette[i];
+        }
+        ecrireBloc(flux, "PLTE", couleurs, couleurs.length);
+
+        ecrireBloc(flux, "IDAT", new byte[]{0x78, 0x01}, 2); // En-tête zlib (compression rapide)
+        int bandes = (hauteur + lignesParBande - 1) / lignesParBande;
+        int parLot = Runtime.getRuntime().availableProcessors();
+        long adler = 1; // Somme Adler-32 des données non compressées
+        for (int premiere = 0; premiere < bandes; premiere += parLot) {
+            int debut = premiere;
+            int fin = Math.min(bandes, premiere + parLot);
+            Bande[] lot = new Bande[fin - debut];
+            IntStream.range(debut, fin).parallel().forEach(b -> lot[b - debut] = compresser(source, b, b == bandes - 1));
+            for (Bande bande : lot) {
+                ecrireBloc(flux, "IDAT", bande.compresse, bande.longueur);
+                adler = combinerAdler(adler, bande.adler, bande.octetsBruts);
+            }
+        }
+        byte[] somme = {(byte) (adler >>> 24), (byte) (adler >>> 16), (byte) (adler >>> 8), (byte) adler};
+        ecrireBloc(flux, "IDAT", somme, 4);
+        ecrireBloc(flux, "IEND", new byte[0], 0);
+        flux.flush();
+    }
+
+    /**
+     * Bande de lignes compressée, prête à être écrite.
+     */
+    private static final class Bande {
+        byte[] compresse; // Données compressées
+        int longueur; // Nombre d'octets utiles dans compresse
+        long adler; // Somme Adler-32 des données brutes
+        long octetsBruts; // Nombre d'octets bruts (filtres compris)
+    }
+
+    /**
+     * Produit et compresse une bande : chaque ligne est précédée de son octet de filtre (aucun filtre).
+     */
+    private Bande compresser(SourceLignes source, int indiceBande, boolean derniere) {
+        int debut = indiceBande * lignesParBande;
+        int fin = Math.min(hauteur, debut + lignesParBande);
+        byte[] brut = new byte[(fin - debut) * (largeur + 1)];
+        byte[] ligne = new byte[largeur];
+        for (int y = debut; y < fin; y++) {
+            source.remplirLigne(y, ligne);
+            System.arraycopy(ligne, 0, brut, (y - debut) * (largeur + 1) + 1, largeur);
+        }
+
+        Bande bande = new Bande();
+        Adler32 somme = new Adler32();
+        somme.update(brut);
+        bande.adler = somme.getValue();
+        bande.octetsBruts = brut.length;
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true); // Flux brut, sans en-tête zlib
+        try {
+            deflater.setInput(brut);
+            ByteArrayOutputStream compresse = new ByteArrayOutputStream(brut.length / 8 + 64);
+            byte[] tampon = new byte[64 * 1024];
+            if (derniere) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    compresse.write(tampon, 0, deflater.deflate(tampon));
+                }
+            } else {
+                int n;
+                do { // SYNC_FLUSH : la bande se termine sur une frontière d'octet sans clore le flux
+                    n = deflater.deflate(tampon, 0, tampon.length, Deflater.SYNC_FLUSH);
+                    compresse.write(tampon, 0, n);
+                } while (n == tampon.length);
+            }
+            bande.compresse = compresse.toByteArray();
+            bande.longueur = bande.compresse.length;
+        } finally {
+            deflater.end();
+        }
+        return bande;
+    }
+
+    /**
+     * Combine la somme Adler-32 d'un préfixe avec celle d'un suffixe de longueur donnée.
+     */
+    static long combinerAdler(long adler1, long adler2, long longueur2) {
+        long reste = longueur2 % MODULE_ADLER;
+        long somme1 = adler1 & 0xFFFF;
+        long somme2 = (reste * somme1) % MODULE_ADLER;
+        somme1 += (adler2 & 0xFFFF) + MODULE_ADLER - 1;
+        somme2 += (adler1 >>> 16) + (adler2 >>> 16) + MODULE_ADLER - reste;
+        somme1 %= MODULE_ADLER;
+        somme2 %= MODULE_ADLER;
+        return (somme2 << 16) | somme1;
+    }
+
+    /**
+     * Écrit un bloc PNG : longueur, type, données et CRC-32 du type et des données.
+     */
+    private static void ecrireBloc(DataOutputStream flux, String type, byte[] donnees, int longueur) throws IOException {
+        byte[] octetsType = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(octetsType);
+        crc.update(donnees, 0, longueur);
+        flux.writeInt(longueur);
+        flux.write(octetsType);
+        flux.write(donnees, 0, longueur);
+        flux.writeInt((int) crc.getValue());
+    }
+}
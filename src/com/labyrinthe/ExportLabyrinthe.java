@@ -0,0 +1,143 @@
+package com.labyrinthe;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * Export d'un labyrinthe, avec ses calques éventuels, en texte ou en image PNG.
+ * Le texte est écrit ligne par ligne depuis un tampon réutilisé (une écriture par ligne au lieu de
+ * deux par case) et l'image est encodée sans scène JavaFX par {@link EncodeurPNG}.
+ */
+public class ExportLabyrinthe {
+    private static final byte[] FIN_LIGNE = System.lineSeparator().getBytes(); // Saut de ligne de la plateforme
+
+    /** Palette des images : mur, libre, départ, sortie, chemin, exploration, puis terrains de coût 2 à 9. */
+    private static final int[] PALETTE = {
+            0x2B2B2B, 0xFFFFFF, 0x2E9E44, 0xD03B2F, 0xF2C230, 0x9CC9F0,
+            0xF1E7D6, 0xE6D4B6, 0xDAC197, 0xCEAE78, 0xC29B59, 0xB5883D, 0xA27634, 0x8E642B
+    };
+    private static final byte MUR = 0, LIBRE = 1, DEPART = 2, SORTIE = 3, CHEMIN = 4, EXPLORATION = 5;
+    private static final int TERRAIN = 4; // Indice de palette = TERRAIN + coût (coûts de 2 à 9)
+
+    private ExportLabyrinthe() {
+    }
+
+    /**
+     * Écrit le labyrinthe en texte (même format que {@link Labyrinthe#afficherLabyrinthe()}).
+     * Le flux n'est ni mis en tampon ni fermé : chaque ligne est écrite d'un seul bloc.
+     *
+     * @param labyrinthe     le labyrinthe à écrire
+     * @param sortie         le flux de destination
+     * @param superpositions les calques à dessiner, du plus bas au plus haut
+     * @throws IOException si l'écriture échoue
+     */
+    public static void exporterTexte(Labyrinthe labyrinthe, OutputStream sortie, Superposition... superpositions)
+            throws IOException {
+        char[][] grid = labyrinthe.getGrid();
+        int largeur = grid[0].length;
+        byte[] ligne = new byte[2 * largeur + FIN_LIGNE.length]; // Tampon réutilisé pour chaque ligne
+        System.arraycopy(FIN_LIGNE, 0, ligne, 2 * largeur, FIN_LIGNE.length);
+        for (int i = 0; i < grid.length; i++) {
+            for (int j = 0; j < largeur; j++) {
+                ligne[2 * j] = (byte) caractere(labyrinthe, grid, i, j, superpositions);
+                ligne[2 * j + 1] = ' '; // Espace entre les cases pour la lisibilité
+            }
+            sortie.write(ligne);
+        }
+        sortie.flush();
+    }
+
+    /**
+     * Écrit le labyrinthe en texte dans un flux de caractères.
+     *
+     * @param labyrinthe     le labyrinthe à écrire
+     * @param sortie         le flux de destination (non fermé)
+     * @param superpositions les calques à dessiner, du plus bas au plus haut
+     * @throws IOException si l'écriture échoue
+     */
+    public static void exporterTexte(Labyrinthe labyrinthe, Writer sortie, Superposition... superpositions)
+            throws IOException {
+        char[][] grid = labyrinthe.getGrid();
+        int largeur = grid[0].length;
+        String finLigne = System.lineSeparator();
+        char[] ligne = new char[2 * largeur + finLigne.length()];
+        finLigne.getChars(0, finLigne.length(), ligne, 2 * largeur);
+        for (int i = 0; i < grid.length; i++) {
+            for (int j = 0; j < largeur; j++) {
+                ligne[2 * j] = caractere(labyrinthe, grid, i, j, superpositions);
+                ligne[2 * j + 1] = ' ';
+            }
+            sortie.write(ligne);
+        }
+        sortie.flush();
+    }
+
+    /**
+     * Encode le labyrinthe en image PNG, chaque case occupant un carré de pixels.
+     *
+     * @param labyrinthe     le labyrinthe à dessiner
+     * @param sortie         le flux de destination (non fermé)
+     * @param pixelsParCase  le côté d'une case en pixels
+     * @param superpositions les calques à dessiner, du plus bas au plus haut
+     * @throws IOException              si l'écriture échoue
+     * @throws IllegalArgumentException si l'image serait trop grande
+     */
+    public static void exporterPNG(Labyrinthe labyrinthe, OutputStream sortie, int pixelsParCase,
+                                   Superposition... superpositions) throws IOException {
+        char[][] grid = labyrinthe.getGrid();
+        long largeurImage = (long) grid[0].length * pixelsParCase;
+        long hauteurImage = (long) grid.length * pixelsParCase;
+        if (pixelsParCase <= 0 || largeurImage > Integer.MAX_VALUE / 2 || hauteurImage > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Taille de case invalide : " + pixelsParCase);
+        }
+        EncodeurPNG encodeur = new EncodeurPNG((int) largeurImage, (int) hauteurImage, PALETTE);
+        encodeur.encoder((y, indices) -> {
+            int i = y / pixelsParCase;
+            for (int j = 0, x = 0; j < grid[0].length; j++) {
+                byte couleur = couleur(labyrinthe, i, j, caractere(labyrinthe, grid, i, j, superpositions));
+                for (int p = 0; p < pixelsParCase; p++) {
+                    indices[x++] = couleur;
+                }
+            }
+        }, sortie);
+    }
+
+    /**
+     * Détermine le caractère affiché pour une case : marque du calque le plus haut qui la contient,
+     * coût du terrain s'il dépasse 1, sinon caractère de la grille. Le départ et la sortie ne sont jamais recouverts.
+     */
+    static char caractere(Labyrinthe labyrinthe, char[][] grid, int i, int j, Superposition[] superpositions) {
+        char cellule = grid[i][j];
+        if (cellule == 'S' || cellule == 'E') {
+            return cellule;
+        }
+        for (int k = superpositions.length - 1; k >= 0; k--) {
+            if (superpositions[k].contient(i, j)) {
+                return superpositions[k].getMarque();
+            }
+        }
+        if (cellule == ' ' && labyrinthe.getPoids(i, j) > 1) {
+            return (char) ('0' + labyrinthe.getPoids(i, j)); // Terrain pondéré affiché par son coût
+        }
+        return cellule;
+    }
+
+    /**
+     * Associe un caractère affiché à un indice de la palette.
+     */
+    private static byte couleur(Labyrinthe labyrinthe, int i, int j, char cellule) {
+        switch (cellule) {
+            case '#': return MUR;
+            case 'S': return DEPART;
+            case 'E': return SORTIE;
+            case ' ': return LIBRE;
+            case Superposition.CHEMIN: return CHEMIN;
+            default:
+                if (cellule >= '2' && cellule <= '9' && labyrinthe.getPoids(i, j) > 1) {
+                    return (byte) (TERRAIN + (cellule - '0'));
+                }
+                return EXPLORATION; // Toute autre marque de calque
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.labyrinthe;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.stage.Stage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Fenêtre du mode course : tous les moteurs de résolution s'exécutent en parallèle sur le même labyrinthe,
+ * chacun dans son propre panneau affichant en direct le travail effectué et le temps écoulé.
+ * L'affichage est rafraîchi une fois par image par un {@link AnimationTimer}, sans jamais bloquer les concurrents.
+ */
+public class FenetreCourse {
+    private static final String[] TAILLES = {"Labyrinthe affiché", "201 x 201", "1001 x 1001", "2001 x 2001", "4001 x 4001"};
+
+    private final Stage stage; // Fenêtre de la course
+    private final Labyrinthe labyrinthe; // Labyrinthe affiché dans la fenêtre principale
+    private final ComboBox<String> tailleBox; // Choix de la taille du labyrinthe de course
+    private final Button departButton; // Bouton de départ
+    private final Label etatLabel; // Label d'état (génération, course, classement)
+    private final HBox panneaux; // Panneaux des concurrents, côte à côte
+    private final List<Label[]> labelsConcurrents = new ArrayList<>(); // Labels cellules, temps et chemin de chaque panneau
+    private AnimationTimer rafraichissement; // Mise à jour des panneaux pendant la course
+
+    /**
+     * Crée la fenêtre du mode course.
+     *
+     * @param labyrinthe le labyrinthe affiché, utilisé tel quel ou comme graine des labyrinthes plus grands
+     */
+    public FenetreCourse(Labyrinthe labyrinthe) {
+        this.labyrinthe = labyrinthe;
+        stage = new Stage();
+        stage.setTitle("Course des algorithmes");
+
+        tailleBox = new ComboBox<>();
+        tailleBox.getItems().addAll(TAILLES);
+        tailleBox.getSelectionModel().selectFirst();
+        departButton = new Button("Départ");
+        departButton.setOnAction(e -> lancer());
+        etatLabel = creerLabel("Choisissez une taille puis lancez la course", FontWeight.NORMAL);
+
+        HBox controles = new HBox(15, tailleBox, departButton, etatLabel);
+        controles.setAlignment(Pos.CENTER_LEFT);
+        panneaux = new HBox(15);
+        panneaux.setAlignment(Pos.TOP_CENTER);
+
+        VBox racine = new VBox(20, controles, panneaux);
+        racine.setPadding(new Insets(20));
+        racine.setBackground(new Background(new BackgroundFill(Color.web("#1E1E1E"), CornerRadii.EMPTY, Insets.EMPTY)));
+        stage.setScene(new Scene(racine, 1050, 260));
+        stage.setOnHidden(e -> arreterRafraichissement());
+    }
+
+    /**
+     * Affiche la fenêtre.
+     */
+    public void afficher() {
+        stage.show();
+    }
+
+    /**
+     * Copie le labyrinthe sur le thread JavaFX, prépare la course hors de ce thread, puis lance tous les concurrents.
+     */
+    private void lancer() {
+        departButton.setDisable(true);
+        arreterRafraichissement();
+        int choix = tailleBox.getSelectionModel().getSelectedIndex();
+        etatLabel.setText(choix == 0 ? "Course en cours..." : "Génération du labyrinthe...");
+        // Copie prise sur le thread JavaFX : la grille peut être éditée dès la fin de cette méthode
+        Labyrinthe copie = choix == 0 ? labyrinthe.copier() : null;
+        long graine = labyrinthe.getGraine();
+        CompletableFuture.supplyAsync(() -> {
+            if (choix == 0) {
+                return new Course(copie);
+            }
+            int cote = Integer.parseInt(TAILLES[choix].substring(0, TAILLES[choix].indexOf(' ')));
+            return new Course(new Labyrinthe(cote, cote, graine)); // Reproductible d'une course à l'autre
+        }).whenComplete((course, erreur) -> Platform.runLater(() -> {
+            if (erreur != null) {
+                Throwable cause = erreur.getCause() != null ? erreur.getCause() : erreur;
+                etatLabel.setText("Course impossible : " + cause.getMessage());
+                departButton.setDisable(false);
+                return;
+            }
+            demarrer(course);
+        }));
+    }
+
+    /**
+     * Construit un panneau par concurrent, démarre la course et le rafraîchissement de l'affichage.
+     */
+    private void demarrer(Course course) {
+        List<Course.Concurrent> concurrents = course.getConcurrents();
+        panneaux.getChildren().clear();
+        labelsConcurrents.clear();
+        for (Course.Concurrent concurrent : concurrents) {
+            Label[] labels = {
+                    creerLabel(concurrent.getUnite() + " : 0", FontWeight.NORMAL),
+                    creerLabel("Temps : 0 ms", FontWeight.NORMAL),
+                    creerLabel("Chemin : en cours...", FontWeight.NORMAL)
+            };
+            labelsConcurrents.add(labels);
+            VBox panneau = new VBox(8, creerLabel(concurrent.getNom(), FontWeight.BOLD), labels[0], labels[1], labels[2]);
+            panneau.setPadding(new Insets(15));
+            panneau.setPrefWidth(190);
+            panneau.setBackground(new Background(new BackgroundFill(Color.web("#2D2D2D"), new CornerRadii(10), Insets.EMPTY)));
+            panneaux.getChildren().add(panneau);
+        }
+
+        Labyrinthe copie = course.getLabyrinthe();
+        etatLabel.setText("Course en cours sur " + copie.getHeight() + " x " + copie.getWidth() + "...");
+        rafraichissement = new AnimationTimer() {
+            @Override
+            public void handle(long maintenant) {
+                rafraichir(concurrents);
+            }
+        };
+        rafraichissement.start();
+        course.demarrer().whenComplete((fin, erreur) -> Platform.runLater(() -> {
+            arreterRafraichissement();
+            rafraichir(concurrents);
+            afficherClassement(concurrents);
+            departButton.setDisable(false);
+        }));
+    }
+
+    /**
+     * Recopie la progression et le temps de chaque concurrent dans son panneau.
+     */
+    private void rafraichir(List<Course.Concurrent> concurrents) {
+        for (int i = 0; i < concurrents.size(); i++) {
+            Course.Concurrent concurrent = concurrents.get(i);
+            Label[] labels = labelsConcurrents.get(i);
+            labels[0].setText(concurrent.getUnite() + " : " + concurrent.getProgression());
+            labels[1].setText(String.format("Temps : %.1f ms", concurrent.getTempsEcoule() / 1e6));
+            if (concurrent.estArrive()) {
+                if (concurrent.getErreur() != null) {
+                    labels[2].setText("Erreur : " + concurrent.getErreur().getClass().getSimpleName());
+                } else if (concurrent.getChemin().isEmpty()) {
+                    labels[2].setText("Chemin : aucun");
+                } else {
+                    labels[2].setText("Chemin : " + concurrent.getChemin().size() + " cases");
+                }
+            }
+        }
+    }
+
+    /**
+     * Affiche l'ordre d'arrivée des concurrents ayant terminé sans erreur.
+     */
+    private void afficherClassement(List<Course.Concurrent> concurrents) {
+        List<Course.Concurrent> arrives = new ArrayList<>();
+        for (Course.Concurrent concurrent : concurrents) {
+            if (concurrent.getErreur() == null) arrives.add(concurrent);
+        }
+        arrives.sort(Comparator.comparingLong(Course.Concurrent::getTempsEcoule));
+        StringBuilder classement = new StringBuilder("Arrivée :");
+        for (int i = 0; i < arrives.size(); i++) {
+            classement.append(' ').append(i + 1).append(". ").append(arrives.get(i).getNom());
+        }
+        etatLabel.setText(classement.toString());
+    }
+
+    private void arreterRafraichissement() {
+        if (rafraichissement != null) {
+            rafraichissement.stop();
+            rafraichissement = null;
+        }
+    }
+
+    /**
+     * Crée un label au style des statistiques de la fenêtre principale.
+     */
+    private static Label creerLabel(String texte, FontWeight graisse) {
+        Label label = new Label(texte);
+        label.setFont(Font.font("Segoe UI", graisse, 13));
+        label.setTextFill(Color.web("#E0E0E0"));
+        return label;
+    }
+}
@@ -0,0 +1,384 @@
+package com.labyrinthe;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * Diffusion des événements d'une résolution (cases explorées, statistiques, chemin trouvé) à des abonnés
+ * {@link Flow.Subscriber} : rendu graphique, mesures, enregistrement ou service réseau.
+ *
+ * <p>La résolution ne s'arrête jamais pour attendre un abonné : publier une case ne fait que l'ajouter
+ * au tampon de chaque abonnement. Les événements sont remis sur l'exécuteur de l'abonnement, dans la limite
+ * de la demande exprimée par {@link Flow.Subscription#request(long)}. Un abonné qui prend du retard reçoit
+ * donc toutes les cases accumulées entre-temps en un seul événement {@link Type#CASES_EXPLOREES}, et seules
+ * les dernières statistiques : la mémoire d'un abonnement reste bornée par le nombre de cases du labyrinthe.</p>
+ *
+ * <p>Pour un abonnement, les événements arrivent dans l'ordre : lots de cases (dans l'ordre d'exploration)
+ * suivis des statistiques qui les concernent, puis, en fin de résolution, les statistiques finales,
+ * le chemin et {@code onComplete}.</p>
+ */
+public final class FluxExploration implements Flow.Publisher<FluxExploration.Evenement> {
+    private static final int INTERVALLE_STATISTIQUES = 1024; // Étapes entre deux statistiques intermédiaires
+    private static final Executor EXECUTEUR_PAR_DEFAUT = Thread::startVirtualThread; // Un thread virtuel par remise
+
+    private final int largeur; // Largeur du labyrinthe, pour décoder les indices de cases
+    private final List<Abonnement> abonnements = new CopyOnWriteArrayList<>(); // Abonnements en cours
+    private final long debut = System.currentTimeMillis(); // Instant de création, pour les statistiques intermédiaires
+    private volatile boolean ferme; // Résolution terminée
+
+    /**
+     * Type d'un événement de résolution.
+     */
+    public enum Type {
+        /** Une ou plusieurs cases retirées de la file ou de la pile, dans l'ordre d'exploration. */
+        CASES_EXPLOREES,
+        /** Étapes, cellules atteintes et temps écoulé ; les dernières remplacent les précédentes non remises. */
+        STATISTIQUES,
+        /** Chemin final, vide si la sortie est inaccessible ; dernier événement avant {@code onComplete}. */
+        CHEMIN
+    }
+
+    /**
+     * Événement remis aux abonnés. Les accesseurs sans rapport avec le type renvoient 0 ou une liste vide.
+     */
+    public static final class Evenement {
+        private final Type type; // Type de l'événement
+        private final int largeur; // Largeur du labyrinthe
+        private final int[] cases; // Cases explorées (ligne * largeur + colonne)
+        private final int etapes; // Nombre d'étapes
+        private final int cellules; // Nombre de cellules atteintes
+        private final long tempsMs; // Temps écoulé en millisecondes
+        private final boolean finales; // Statistiques de fin de résolution
+        private final List<Integer[]> chemin; // Chemin trouvé
+
+        private Evenement(Type type, int largeur, int[] cases, int etapes, int cellules, long tempsMs,
+                          boolean finales, List<Integer[]> chemin) {
+            this.type = type;
+            this.largeur = largeur;
+            this.cases = cases;
+            this.etapes = etapes;
+            this.cellules = cellules;
+            this.tempsMs = tempsMs;
+            this.finales = finales;
+            this.chemin = chemin;
+        }
+
+        /**
+         * Retourne le type de l'événement.
+         *
+         * @return le type
+         */
+        public Type getType() { return type; }
+
+        /**
+         * Retourne le nombre de cases d'un événement {@link Type#CASES_EXPLOREES}.
+         *
+         * @return le nombre de cases regroupées dans l'événement
+         */
+        public int getNombreCases() { return cases.length; }
+
+        /**
+         * Retourne la ligne d'une case de l'événement.
+         *
+         * @param i l'indice de la case dans l'événement
+         * @return la coordonnée X
+         */
+        public int getLigne(int i) { return cases[i] / largeur; }
+
+        /**
+         * Retourne la colonne d'une case de l'événement.
+         *
+         * @param i l'indice de la case dans l'événement
+         * @return la coordonnée Y
+         */
+        public int getColonne(int i) { return cases[i] % largeur; }
+
+        /**
+         * Retourne le nombre d'étapes d'un événement {@link Type#STATISTIQUES}.
+         *
+         * @return le nombre d'étapes
+         */
+        public int getEtapes() { return etapes; }
+
+        /**
+         * Retourne le nombre de cellules atteintes d'un événement {@link Type#STATISTIQUES}.
+         *
+         * @return le nombre de cellules
+         */
+        public int getCellules() { return cellules; }
+
+        /**
+         * Retourne le temps écoulé d'un événement {@link Type#STATISTIQUES} : depuis la création du flux
+         * pour les statistiques intermédiaires, temps mesuré par le solveur pour les finales.
+         *
+         * @return le temps en millisecondes
+         */
+        public long getTempsMs() { return tempsMs; }
+
+        /**
+         * Indique si les statistiques sont celles de la fin de la résolution.
+         *
+         * @return true pour les statistiques finales
+         */
+        public boolean sontFinales() { return finales; }
+
+        /**
+         * Retourne le chemin d'un événement {@link Type#CHEMIN}.
+         *
+         * @return la liste des coordonnées du chemin, vide si aucun
+         */
+        public List<Integer[]> getChemin() { return chemin; }
+    }
+
+    /**
+     * Crée un flux pour la résolution d'un labyrinthe.
+     *
+     * @param labyrinthe le labyrinthe résolu
+     */
+    public FluxExploration(Labyrinthe labyrinthe) {
+        this.largeur = labyrinthe.getWidth();
+    }
+
+    /**
+     * Abonne un abonné ; les événements lui sont remis sur un thread virtuel.
+     *
+     * @param abonne l'abonné
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super Evenement> abonne) {
+        subscribe(abonne, EXECUTEUR_PAR_DEFAUT);
+    }
+
+    /**
+     * Abonne un abonné dont les méthodes sont appelées sur un exécuteur donné
+     * ({@code Platform::runLater} pour un abonné JavaFX par exemple). Les appels restent séquentiels.
+     *
+     * @param abonne    l'abonné
+     * @param executeur l'exécuteur des remises
+     */
+    public void subscribe(Flow.Subscriber<? super Evenement> abonne, Executor executeur) {
+        if (abonne == null || executeur == null) {
+            throw new NullPointerException("Abonné et exécuteur obligatoires.");
+        }
+        Abonnement abonnement = new Abonnement(abonne, executeur);
+        abonnements.add(abonnement);
+        if (ferme) { // Abonné arrivé après la fin : il reçoit seulement onComplete
+            synchronized (abonnement) {
+                abonnement.termine = true;
+            }
+        }
+        executeur.execute(abonnement::demarrer);
+    }
+
+    /**
+     * Publie l'exploration d'une case, puis des statistiques intermédiaires toutes les
+     * {@value #INTERVALLE_STATISTIQUES} étapes.
+     */
+    void caseExploree(int x, int y, int etapes, int cellules) {
+        int c = x * largeur + y;
+        boolean statistiques = etapes % INTERVALLE_STATISTIQUES == 0;
+        Evenement stats = statistiques
+                ? new Evenement(Type.STATISTIQUES, largeur, new int[0], etapes, cellules,
+                        System.currentTimeMillis() - debut, false, Collections.emptyList())
+                : null;
+        for (Abonnement abonnement : abonnements) {
+            abonnement.ajouterCase(c, stats);
+        }
+    }
+
+    /**
+     * Publie les statistiques finales et le chemin, puis termine le flux.
+     */
+    void terminer(List<Integer[]> chemin, int etapes, int cellules, long tempsMs) {
+        Evenement stats = new Evenement(Type.STATISTIQUES, largeur, new int[0], etapes, cellules, tempsMs,
+                true, Collections.emptyList());
+        Evenement fin = new Evenement(Type.CHEMIN, largeur, new int[0], 0, 0, 0, false, chemin);
+        ferme = true;
+        for (Abonnement abonnement : abonnements) {
+            abonnement.terminer(stats, fin, null);
+        }
+    }
+
+    /**
+     * Termine le flux sur une erreur de la résolution.
+     */
+    void echouer(Throwable erreur) {
+        ferme = true;
+        for (Abonnement abonnement : abonnements) {
+            abonnement.terminer(null, null, erreur);
+        }
+    }
+
+    /**
+     * Retourne le nombre d'abonnements en cours.
+     *
+     * @return le nombre d'abonnés ni annulés ni terminés
+     */
+    public int getNombreAbonnes() { return abonnements.size(); }
+
+    /**
+     * Abonnement d'un abonné : tampons des événements non remis et demande en attente.
+     * Les champs sont protégés par le verrou de l'abonnement ; l'abonné est appelé hors verrou,
+     * par une seule tâche de remise à la fois.
+     */
+    private final class Abonnement implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super Evenement> abonne; // Abonné servi
+        private final Executor executeur; // Exécuteur des remises
+        private int[] cases = new int[64]; // Cases explorées non remises
+        private int nombreCases; // Nombre de cases en attente
+        private Evenement statistiques; // Dernières statistiques non remises
+        private Evenement chemin; // Chemin non remis
+        private Throwable erreur; // Erreur à remettre
+        private boolean termine; // Plus aucun événement ne sera ajouté
+        private boolean annule; // Annulé par l'abonné ou terminé
+        private boolean planifie = true; // Tâche de remise en cours ou prévue (la première est demarrer)
+        private long demande; // Événements demandés et pas encore remis
+
+        private Abonnement(Flow.Subscriber<? super Evenement> abonne, Executor executeur) {
+            this.abonne = abonne;
+            this.executeur = executeur;
+        }
+
+        /**
+         * Première tâche sur l'exécuteur : onSubscribe, puis remise de ce qui attend déjà.
+         */
+        private void demarrer() {
+            try {
+                abonne.onSubscribe(this);
+            } catch (RuntimeException e) {
+                cancel();
+                return;
+            }
+            run();
+        }
+
+        private synchronized void ajouterCase(int c, Evenement stats) {
+            if (annule || termine) return;
+            if (nombreCases == cases.length) {
+                cases = Arrays.copyOf(cases, cases.length * 2);
+            }
+            cases[nombreCases++] = c;
+            if (stats != null) statistiques = stats; // Les dernières remplacent celles non remises
+            planifier();
+        }
+
+        private synchronized void terminer(Evenement stats, Evenement fin, Throwable cause) {
+            if (annule || termine) return;
+            if (stats != null) statistiques = stats;
+            chemin = fin;
+            erreur = cause;
+            termine = true;
+            planifier();
+        }
+
+        /**
+         * Lance une tâche de remise si aucune n'est prévue et que l'abonné peut recevoir quelque chose.
+         */
+        private void planifier() {
+            if (planifie || annule) return;
+            if (demande == 0 && !(termine && rienEnAttente())) return; // onComplete n'a pas besoin de demande
+            planifie = true;
+            executeur.execute(this);
+        }
+
+        private boolean rienEnAttente() {
+            return nombreCases == 0 && statistiques == null && chemin == null;
+        }
+
+        /**
+         * Retire l'événement suivant : cases regroupées, puis statistiques, puis chemin.
+         */
+        private Evenement suivant() {
+            if (nombreCases > 0) {
+                Evenement lot = new Evenement(Type.CASES_EXPLOREES, largeur, Arrays.copyOf(cases, nombreCases),
+                        0, 0, 0, false, Collections.emptyList());
+                nombreCases = 0;
+                return lot;
+            }
+            Evenement e = statistiques != null ? statistiques : chemin;
+            if (e == statistiques) {
+                statistiques = null;
+            } else {
+                chemin = null;
+            }
+            return e;
+        }
+
+        /**
+         * Tâche de remise : tant qu'il y a de la demande, remet les événements en attente un par un.
+         */
+        @Override
+        public void run() {
+            while (true) {
+                Evenement evenement = null;
+                boolean fin = false;
+                synchronized (this) {
+                    if (annule) {
+                        planifie = false;
+                        return;
+                    }
+                    if (demande > 0 && !rienEnAttente()) {
+                        evenement = suivant();
+                        demande--;
+                    } else if (termine && rienEnAttente()) {
+                        fin = true;
+                        annule = true; // Plus rien après onComplete ou onError
+                    } else {
+                        planifie = false;
+                        return;
+                    }
+                }
+                try {
+                    if (!fin) {
+                        abonne.onNext(evenement);
+                    } else {
+                        abonnements.remove(this);
+                        if (erreur != null) {
+                            abonne.onError(erreur);
+                        } else {
+                            abonne.onComplete();
+                        }
+                        return;
+                    }
+                } catch (RuntimeException e) {
+                    cancel(); // Un abonné qui lève une exception est désabonné
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) { // Règle 3.9 de Flow : l'abonnement se termine sur une erreur
+                    if (annule) return;
+                    nombreCases = 0;
+                    statistiques = null;
+                    chemin = null;
+                    erreur = new IllegalArgumentException("Demande non positive : " + n);
+                    termine = true;
+                    planifier();
+                    return;
+                }
+                demande = demande + n < 0 ? Long.MAX_VALUE : demande + n; // Demande plafonnée, sans débordement
+                planifier();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                annule = true;
+                cases = new int[0];
+                nombreCases = 0;
+                statistiques = null;
+                chemin = null;
+            }
+            abonnements.remove(this);
+        }
+    }
+}
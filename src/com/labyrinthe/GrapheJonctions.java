@@ -0,0 +1,303 @@
+package com.labyrinthe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Graphe de jonctions obtenu en contractant les couloirs d'un labyrinthe.
+ * Les nœuds sont les carrefours, les impasses, le départ (S) et la sortie (E) ; chaque couloir
+ * (suite de cases ayant exactement deux voisins ouverts) devient un arc pondéré par sa longueur.
+ * Le graphe est stocké en format CSR (tableaux d'adjacence compacts) et peut être réutilisé
+ * pour plusieurs résolutions successives avec Dijkstra : les tableaux de la recherche sont conservés
+ * d'une requête à l'autre et seules les entrées touchées par la requête précédente sont remises à zéro.
+ * Une instance ne doit donc pas servir à plusieurs requêtes simultanées.
+ */
+public class GrapheJonctions {
+    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}; // Haut, bas, gauche, droite
+
+    private final int largeur; // Nombre de colonnes de la grille d'origine
+    private final int[] noeudDeCase; // Indice de nœud de chaque case (-1 si case de couloir ou mur)
+    private final int[] caseDeNoeud; // Indice de case de chaque nœud
+    private final int[] debutArcs; // CSR : arcs du nœud n dans [debutArcs[n], debutArcs[n + 1])
+    private final int[] cibleArc; // Nœud d'arrivée de chaque arc
+    private final int[] poidsArc; // Longueur de chaque arc en nombre de déplacements
+    private final int[] debutCellules; // Cases intermédiaires de l'arc a dans [debutCellules[a], debutCellules[a + 1])
+    private final int[] cellulesArcs; // Cases intermédiaires de tous les arcs, bout à bout
+    private final int noeudDepart; // Nœud correspondant au départ (S)
+    private final int noeudSortie; // Nœud correspondant à la sortie (E)
+
+    private final int[] distance; // Distance provisoire de chaque nœud (Integer.MAX_VALUE si non atteint)
+    private final int[] arcPrecedent; // Arc par lequel chaque nœud atteint a été rejoint
+    private final int[] touches; // Nœuds atteints par la dernière requête, à réinitialiser
+    private int nombreTouches; // Nombre de nœuds dans touches
+    private final TasIndexe tas; // File de priorité de Dijkstra, vidée entre deux requêtes
+
+    private final AtomicInteger noeudsExplores = new AtomicInteger(); // Nœuds extraits lors de la dernière résolution, lisibles depuis un autre thread
+    private int cellulesCouvertes; // Cases (nœuds et couloirs) parcourues lors de la dernière résolution
+
+    /**
+     * Construit le graphe de jonctions d'un labyrinthe.
+     *
+     * @param labyrinthe le labyrinthe à contracter
+     */
+    public GrapheJonctions(Labyrinthe labyrinthe) {
+        char[][] grid = labyrinthe.getGrid();
+        int hauteur = grid.length;
+        largeur = grid[0].length;
+        int depart = labyrinthe.getStartX() * largeur + labyrinthe.getStartY();
+        int sortie = labyrinthe.getEndX() * largeur + labyrinthe.getEndY();
+
+        // Identification des nœuds : toute case ouverte dont le degré n'est pas 2, plus S et E
+        noeudDeCase = new int[hauteur * largeur];
+        Arrays.fill(noeudDeCase, -1);
+        int nombreNoeuds = 0;
+        int nombreArcs = 0;
+        for (int i = 0; i < hauteur; i++) {
+            for (int j = 0; j < largeur; j++) {
+                if (grid[i][j] == '#') continue;
+                int degre = degre(grid, i, j);
+                int c = i * largeur + j;
+                if (degre != 2 || c == depart || c == sortie) {
+                    noeudDeCase[c] = nombreNoeuds++;
+                    nombreArcs += degre;
+                }
+            }
+        }
+
+        caseDeNoeud = new int[nombreNoeuds];
+        distance = new int[nombreNoeuds];
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        arcPrecedent = new int[nombreNoeuds];
+        touches = new int[nombreNoeuds];
+        tas = new TasIndexe(nombreNoeuds);
+        debutArcs = new int[nombreNoeuds + 1];
+        cibleArc = new int[nombreArcs];
+        poidsArc = new int[nombreArcs];
+        debutCellules = new int[nombreArcs + 1];
+        int[] cellules = new int[16]; // Agrandi au besoin : taille finale inconnue avant le parcours
+        int nombreCellules = 0;
+
+        // Parcours de chaque couloir issu de chaque nœud, dans l'ordre des indices de case
+        int arc = 0;
+        for (int c = 0; c < noeudDeCase.length; c++) {
+            int n = noeudDeCase[c];
+            if (n < 0) continue;
+            caseDeNoeud[n] = c;
+            debutArcs[n] = arc;
+            int x = c / largeur;
+            int y = c % largeur;
+            for (int[] dir : DIRECTIONS) {
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                if (!estOuvert(grid, nx, ny)) continue;
+                int precedent = c;
+                int courant = nx * largeur + ny;
+                debutCellules[arc] = nombreCellules;
+                // Avancer le long du couloir jusqu'au prochain nœud
+                while (noeudDeCase[courant] < 0) {
+                    if (nombreCellules == cellules.length) cellules = Arrays.copyOf(cellules, nombreCellules * 2);
+                    cellules[nombreCellules++] = courant;
+                    int suivant = voisinSuivant(grid, courant, precedent);
+                    precedent = courant;
+                    courant = suivant;
+                }
+                cibleArc[arc] = noeudDeCase[courant];
+                poidsArc[arc] = nombreCellules - debutCellules[arc] + 1;
+                arc++;
+            }
+        }
+        debutArcs[nombreNoeuds] = arc;
+        debutCellules[arc] = nombreCellules;
+        cellulesArcs = Arrays.copyOf(cellules, nombreCellules);
+        noeudDepart = noeudDeCase[depart];
+        noeudSortie = noeudDeCase[sortie];
+    }
+
+    /**
+     * Vérifie si une case est dans la grille et n'est pas un mur.
+     */
+    private static boolean estOuvert(char[][] grid, int x, int y) {
+        return x >= 0 && x < grid.length && y >= 0 && y < grid[0].length && grid[x][y] != '#';
+    }
+
+    /**
+     * Compte les voisins ouverts d'une case.
+     */
+    private static int degre(char[][] grid, int x, int y) {
+        int degre = 0;
+        for (int[] dir : DIRECTIONS) {
+            if (estOuvert(grid, x + dir[0], y + dir[1])) degre++;
+        }
+        return degre;
+    }
+
+    /**
+     * Retourne l'autre voisin ouvert d'une case de couloir (degré 2).
+     */
+    private int voisinSuivant(char[][] grid, int courant, int precedent) {
+        int x = courant / largeur;
+        int y = courant % largeur;
+        for (int[] dir : DIRECTIONS) {
+            int nx = x + dir[0];
+            int ny = y + dir[1];
+            if (estOuvert(grid, nx, ny) && nx * largeur + ny != precedent) {
+                return nx * largeur + ny;
+            }
+        }
+        return precedent; // Inatteignable pour une case de degré 2
+    }
+
+    /**
+     * Résout le labyrinthe du départ (S) à la sortie (E).
+     *
+     * @return la liste des coordonnées du chemin trouvé, ou une liste vide si aucun chemin
+     */
+    public List<Integer[]> resoudre() {
+        return resoudreEntreNoeuds(noeudDepart, noeudSortie);
+    }
+
+    /**
+     * Résout le plus court chemin entre deux nœuds du graphe (carrefours, impasses, S ou E).
+     *
+     * @param x1 la coordonnée X de la case d'origine
+     * @param y1 la coordonnée Y de la case d'origine
+     * @param x2 la coordonnée X de la case de destination
+     * @param y2 la coordonnée Y de la case de destination
+     * @return la liste des coordonnées du chemin trouvé, ou une liste vide si aucun chemin
+     * @throws IllegalArgumentException si l'une des cases n'est pas un nœud du graphe
+     */
+    public List<Integer[]> resoudre(int x1, int y1, int x2, int y2) {
+        return resoudreEntreNoeuds(noeud(x1, y1), noeud(x2, y2));
+    }
+
+    /**
+     * Retourne le nœud associé à une case, en vérifiant qu'il existe.
+     */
+    private int noeud(int x, int y) {
+        int c = x * largeur + y;
+        if (x < 0 || y < 0 || y >= largeur || c >= noeudDeCase.length || noeudDeCase[c] < 0) {
+            throw new IllegalArgumentException("La case (" + x + ", " + y + ") n'est pas un nœud du graphe de jonctions.");
+        }
+        return noeudDeCase[c];
+    }
+
+    /**
+     * Exécute Dijkstra entre deux nœuds et développe les arcs retenus en cases.
+     * Seul le chemin renvoyé est alloué : les tableaux de la recherche sont ceux du graphe.
+     */
+    private List<Integer[]> resoudreEntreNoeuds(int source, int cible) {
+        for (int i = 0; i < nombreTouches; i++) {
+            distance[touches[i]] = Integer.MAX_VALUE; // Effacer seulement ce que la requête précédente a touché
+        }
+        nombreTouches = 0;
+        tas.vider();
+
+        distance[source] = 0;
+        arcPrecedent[source] = -1;
+        touches[nombreTouches++] = source;
+        tas.inserer(source, 0);
+        int extraits = 0;
+        noeudsExplores.set(0);
+        cellulesCouvertes = 0;
+        while (!tas.estVide()) {
+            int n = tas.extraire();
+            noeudsExplores.lazySet(++extraits); // Publication sans barrière complète, comme Solver
+            cellulesCouvertes++;
+            if (n == cible) {
+                return developperChemin(source, cible);
+            }
+            for (int a = debutArcs[n]; a < debutArcs[n + 1]; a++) {
+                int m = cibleArc[a];
+                if (distance[m] == Integer.MAX_VALUE || tas.contient(m)) {
+                    cellulesCouvertes += debutCellules[a + 1] - debutCellules[a]; // Couloir compté une fois, depuis sa première extrémité extraite
+                }
+                int d = distance[n] + poidsArc[a];
+                if (d < distance[m]) {
+                    if (distance[m] == Integer.MAX_VALUE) touches[nombreTouches++] = m;
+                    distance[m] = d;
+                    arcPrecedent[m] = a;
+                    tas.inserer(m, d);
+                }
+            }
+        }
+        return Collections.emptyList(); // Aucun chemin trouvé
+    }
+
+    /**
+     * Reconstruit le chemin en cases à partir des arcs retenus par Dijkstra.
+     */
+    private List<Integer[]> developperChemin(int source, int cible) {
+        // Remonter les arcs de la cible vers la source
+        List<Integer> arcs = new ArrayList<>();
+        int longueur = 1;
+        for (int n = cible; n != source; ) {
+            int a = arcPrecedent[n];
+            arcs.add(a);
+            longueur += poidsArc[a];
+            n = origineArc(a);
+        }
+
+        List<Integer[]> chemin = new ArrayList<>(longueur);
+        ajouterCase(chemin, caseDeNoeud[source]);
+        for (int k = arcs.size() - 1; k >= 0; k--) {
+            int a = arcs.get(k);
+            for (int i = debutCellules[a]; i < debutCellules[a + 1]; i++) {
+                ajouterCase(chemin, cellulesArcs[i]);
+            }
+            ajouterCase(chemin, caseDeNoeud[cibleArc[a]]);
+        }
+        return chemin;
+    }
+
+    /**
+     * Retrouve le nœud d'origine d'un arc par recherche dichotomique dans les débuts CSR.
+     */
+    private int origineArc(int arc) {
+        int bas = 0, haut = caseDeNoeud.length - 1;
+        while (bas < haut) {
+            int milieu = (bas + haut + 1) >>> 1;
+            if (debutArcs[milieu] <= arc) {
+                bas = milieu;
+            } else {
+                haut = milieu - 1;
+            }
+        }
+        return bas;
+    }
+
+    private void ajouterCase(List<Integer[]> chemin, int c) {
+        chemin.add(new Integer[]{c / largeur, c % largeur});
+    }
+
+    /**
+     * Retourne le nombre de nœuds du graphe.
+     *
+     * @return le nombre de nœuds
+     */
+    public int getNombreNoeuds() { return caseDeNoeud.length; }
+
+    /**
+     * Retourne le nombre d'arcs (orientés) du graphe.
+     *
+     * @return le nombre d'arcs
+     */
+    public int getNombreArcs() { return cibleArc.length; }
+
+    /**
+     * Retourne le nombre de nœuds extraits lors de la dernière résolution.
+     *
+     * @return le nombre de nœuds explorés
+     */
+    public int getNoeudsExplores() { return noeudsExplores.get(); }
+
+    /**
+     * Retourne le nombre de cases parcourues lors de la dernière résolution : nœuds extraits et cases
+     * des couloirs qui en partent. Comparable aux cellules explorées par les parcours case par case.
+     *
+     * @return le nombre de cases couvertes
+     */
+    public int getCellulesCouvertes() { return cellulesCouvertes; }
+}
@@ -0,0 +1,382 @@
+package com.labyrinthe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Grille de labyrinthe stockée dans un tableau unique selon une disposition favorable au cache :
+ * tuiles carrées de 8 x 8 cases (64 octets, soit une ligne de cache) ou ordre de Morton (courbe en Z).
+ * Dans ces dispositions, les voisins verticaux d'une case sont généralement dans la même ligne de
+ * cache, contrairement à {@code char[][]} où chaque ligne est un tableau distinct.
+ * La grille fournit ses propres fonctions d'indice et de voisinage, un générateur (Prim, identique à
+ * celui de {@link Labyrinthe} pour une même graine) et un solveur BFS qui les utilisent.
+ */
+public class GrilleTuilee {
+    /**
+     * Disposition des cases dans le tableau.
+     */
+    public enum Disposition {
+        /** Ligne par ligne, comme {@code char[][]} : sert de référence. */
+        LIGNES,
+        /** Tuiles de 8 x 8 cases, rangées ligne par ligne, chaque tuile étant contiguë. */
+        TUILES,
+        /** Ordre de Morton (bits des coordonnées entrelacés) sur un carré de côté puissance de 2. */
+        MORTON
+    }
+
+    private static final int BITS_TUILE = 3; // Tuiles de 8 x 8
+    private static final int COTE_TUILE = 1 << BITS_TUILE;
+    private static final byte MUR = '#';
+    private static final int BITS_PAIRS = 0x55555555; // Bits de la colonne en ordre de Morton
+    private static final int BITS_IMPAIRS = 0xAAAAAAAA; // Bits de la ligne en ordre de Morton
+
+    private final Disposition disposition; // Disposition des cases
+    private final int hauteur; // Nombre de lignes
+    private final int largeur; // Nombre de colonnes
+    private final int tuilesParLigne; // Nombre de tuiles par rangée (disposition TUILES)
+    private final int limiteLigne; // Dernière ligne entrelacée sur les bits impairs (disposition MORTON)
+    private final int limiteColonne; // Dernière colonne entrelacée sur les bits pairs (disposition MORTON)
+    private final byte[] cases; // Cases selon la disposition (les cases de remplissage sont des murs)
+    private int startX, startY; // Coordonnées de départ (S)
+    private int endX, endY; // Coordonnées de sortie (E)
+    private int cellulesExplorees; // Nombre de cellules atteintes par le dernier BFS
+
+    /**
+     * Construit une grille entièrement murée.
+     *
+     * @param hauteur     le nombre de lignes
+     * @param largeur     le nombre de colonnes
+     * @param disposition la disposition des cases en mémoire
+     */
+    public GrilleTuilee(int hauteur, int largeur, Disposition disposition) {
+        this.hauteur = hauteur;
+        this.largeur = largeur;
+        this.disposition = disposition;
+        this.tuilesParLigne = (largeur + COTE_TUILE - 1) >> BITS_TUILE;
+        this.limiteLigne = entrelacer(hauteur - 1) << 1;
+        this.limiteColonne = entrelacer(largeur - 1);
+        long taille = switch (disposition) {
+            case LIGNES -> (long) hauteur * largeur;
+            case TUILES -> (long) ((hauteur + COTE_TUILE - 1) >> BITS_TUILE) * tuilesParLigne << (2 * BITS_TUILE);
+            case MORTON -> {
+                long cote = Long.highestOneBit(Math.max(1, Math.max(hauteur, largeur) - 1)) << 1;
+                yield cote * cote;
+            }
+        };
+        if (taille > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Grille trop grande pour la disposition " + disposition + ".");
+        }
+        cases = new byte[(int) taille];
+        Arrays.fill(cases, MUR);
+    }
+
+    /**
+     * Copie un labyrinthe existant dans une grille de la disposition demandée.
+     *
+     * @param labyrinthe  le labyrinthe à copier
+     * @param disposition la disposition des cases en mémoire
+     * @return la grille copiée
+     */
+    public static GrilleTuilee depuis(Labyrinthe labyrinthe, Disposition disposition) {
+        char[][] grid = labyrinthe.getGrid();
+        GrilleTuilee grille = new GrilleTuilee(grid.length, grid[0].length, disposition);
+        for (int i = 0; i < grid.length; i++) {
+            for (int j = 0; j < grid[0].length; j++) {
+                grille.cases[grille.indice(i, j)] = (byte) grid[i][j];
+            }
+        }
+        grille.startX = labyrinthe.getStartX();
+        grille.startY = labyrinthe.getStartY();
+        grille.endX = labyrinthe.getEndX();
+        grille.endY = labyrinthe.getEndY();
+        return grille;
+    }
+
+    /**
+     * Génère un labyrinthe avec l'algorithme de Prim directement dans la disposition demandée.
+     * Pour une même graine et les mêmes dimensions, le labyrinthe est identique à
+     * {@code new Labyrinthe(hauteur, largeur, graine)}.
+     *
+     * @param hauteur     le nombre de lignes
+     * @param largeur     le nombre de colonnes
+     * @param graine      la graine du générateur aléatoire
+     * @param disposition la disposition des cases en mémoire
+     * @return la grille générée
+     */
+    public static GrilleTuilee generer(int hauteur, int largeur, long graine, Disposition disposition) {
+        GrilleTuilee grille = new GrilleTuilee(hauteur, largeur, disposition);
+        grille.genererPrim(new SplittableRandom(graine));
+        return grille;
+    }
+
+    /**
+     * Algorithme de Prim sur les indices de la disposition (même tirage que {@link Labyrinthe}).
+     */
+    private void genererPrim(SplittableRandom random) {
+        int[] murs = new int[64]; // Murs candidats, rangés par indice de disposition
+        int nombreMurs = 0;
+        startX = 1;
+        startY = 1;
+        int depart = indice(startX, startY);
+        cases[depart] = ' ';
+        nombreMurs = ajouterMursAdjacents(depart, murs, nombreMurs);
+        while (nombreMurs > 0) {
+            int choix = random.nextInt(nombreMurs);
+            int mur = murs[choix];
+            murs[choix] = murs[--nombreMurs]; // Retrait en O(1), comme dans Labyrinthe
+            if (peutPercer(mur)) {
+                cases[mur] = ' ';
+                if (nombreMurs + 4 > murs.length) murs = Arrays.copyOf(murs, murs.length * 2);
+                nombreMurs = ajouterMursAdjacents(mur, murs, nombreMurs);
+            }
+        }
+        cases[depart] = 'S';
+
+        // Sortie tirée parmi les cases accessibles, parcourues ligne par ligne comme dans Labyrinthe
+        int accessibles = 0;
+        for (int i = 0; i < hauteur; i++) {
+            for (int j = 0; j < largeur; j++) {
+                if (cases[indice(i, j)] == ' ') accessibles++;
+            }
+        }
+        if (accessibles > 0) {
+            int rang = random.nextInt(accessibles);
+            for (int i = 0; i < hauteur && rang >= 0; i++) {
+                for (int j = 0; j < largeur && rang >= 0; j++) {
+                    if (cases[indice(i, j)] == ' ' && rang-- == 0) {
+                        endX = i;
+                        endY = j;
+                    }
+                }
+            }
+        } else {
+            endX = hauteur - 2;
+            endY = largeur - 2;
+        }
+        cases[indice(endX, endY)] = 'E';
+    }
+
+    private int ajouterMursAdjacents(int c, int[] murs, int nombre) {
+        for (int d = 0; d < 4; d++) {
+            int v = voisin(c, d);
+            if (v >= 0 && cases[v] == MUR) {
+                murs[nombre++] = v;
+            }
+        }
+        return nombre;
+    }
+
+    private boolean peutPercer(int c) {
+        int espacesAdjacents = 0;
+        for (int d = 0; d < 4; d++) {
+            int v = voisin(c, d);
+            if (v >= 0 && cases[v] == ' ') espacesAdjacents++;
+        }
+        return espacesAdjacents == 1;
+    }
+
+    /**
+     * Calcule l'indice d'une case dans le tableau selon la disposition.
+     *
+     * @param x la coordonnée X (ligne) de la case
+     * @param y la coordonnée Y (colonne) de la case
+     * @return l'indice de la case
+     */
+    public int indice(int x, int y) {
+        return switch (disposition) {
+            case LIGNES -> x * largeur + y;
+            case TUILES -> (((x >> BITS_TUILE) * tuilesParLigne + (y >> BITS_TUILE)) << (2 * BITS_TUILE))
+                    | ((x & (COTE_TUILE - 1)) << BITS_TUILE) | (y & (COTE_TUILE - 1));
+            case MORTON -> (entrelacer(x) << 1) | entrelacer(y);
+        };
+    }
+
+    /**
+     * Retrouve la ligne d'une case à partir de son indice.
+     *
+     * @param indice l'indice de la case
+     * @return la coordonnée X
+     */
+    public int ligne(int indice) {
+        return switch (disposition) {
+            case LIGNES -> indice / largeur;
+            case TUILES -> ((indice >> (2 * BITS_TUILE)) / tuilesParLigne << BITS_TUILE)
+                    | ((indice >> BITS_TUILE) & (COTE_TUILE - 1));
+            case MORTON -> desentrelacer(indice >>> 1);
+        };
+    }
+
+    /**
+     * Retrouve la colonne d'une case à partir de son indice.
+     *
+     * @param indice l'indice de la case
+     * @return la coordonnée Y
+     */
+    public int colonne(int indice) {
+        return switch (disposition) {
+            case LIGNES -> indice % largeur;
+            case TUILES -> ((indice >> (2 * BITS_TUILE)) % tuilesParLigne << BITS_TUILE) | (indice & (COTE_TUILE - 1));
+            case MORTON -> desentrelacer(indice);
+        };
+    }
+
+    /**
+     * Retourne l'indice du voisin d'une case dans une direction donnée.
+     * À l'intérieur d'une tuile, et toujours en ordre de Morton, le voisin est obtenu sans décoder
+     * les coordonnées.
+     *
+     * @param indice    l'indice de la case
+     * @param direction 0 = haut, 1 = bas, 2 = gauche, 3 = droite
+     * @return l'indice du voisin, ou -1 s'il sort de la grille
+     */
+    public int voisin(int indice, int direction) {
+        if (disposition == Disposition.MORTON) {
+            // Chaque coordonnée entrelacée se compare et s'incrémente sans être extraite
+            int lignes = indice & BITS_IMPAIRS;
+            int colonnes = indice & BITS_PAIRS;
+            switch (direction) {
+                case 0: return lignes > 0 ? (((lignes - 1) & BITS_IMPAIRS) | colonnes) : -1;
+                case 1: return lignes < limiteLigne ? ((((indice | BITS_PAIRS) + 1) & BITS_IMPAIRS) | colonnes) : -1;
+                case 2: return colonnes > 0 ? (((colonnes - 1) & BITS_PAIRS) | lignes) : -1;
+                default: return colonnes < limiteColonne ? ((((indice | BITS_IMPAIRS) + 1) & BITS_PAIRS) | lignes) : -1;
+            }
+        }
+        if (disposition == Disposition.TUILES) {
+            int local = indice & (COTE_TUILE * COTE_TUILE - 1);
+            int lx = local >> BITS_TUILE;
+            int ly = local & (COTE_TUILE - 1);
+            switch (direction) {
+                case 0: if (lx > 0) return indice - COTE_TUILE; break;
+                case 1: if (lx < COTE_TUILE - 1 && ligne(indice) + 1 < hauteur) return indice + COTE_TUILE; break;
+                case 2: if (ly > 0) return indice - 1; break;
+                default: if (ly < COTE_TUILE - 1 && colonne(indice) + 1 < largeur) return indice + 1; break;
+            }
+        }
+        int x = ligne(indice);
+        int y = colonne(indice);
+        switch (direction) {
+            case 0: return x > 0 ? indice(x - 1, y) : -1;
+            case 1: return x < hauteur - 1 ? indice(x + 1, y) : -1;
+            case 2: return y > 0 ? indice(x, y - 1) : -1;
+            default: return y < largeur - 1 ? indice(x, y + 1) : -1;
+        }
+    }
+
+    /**
+     * Répartit les 16 bits de poids faible d'un entier sur les bits pairs.
+     */
+    private static int entrelacer(int v) {
+        v &= 0xFFFF;
+        v = (v | (v << 8)) & 0x00FF00FF;
+        v = (v | (v << 4)) & 0x0F0F0F0F;
+        v = (v | (v << 2)) & 0x33333333;
+        v = (v | (v << 1)) & 0x55555555;
+        return v;
+    }
+
+    /**
+     * Regroupe les bits pairs d'un entier (inverse de {@link #entrelacer(int)}).
+     */
+    private static int desentrelacer(int v) {
+        v &= 0x55555555;
+        v = (v | (v >>> 1)) & 0x33333333;
+        v = (v | (v >>> 2)) & 0x0F0F0F0F;
+        v = (v | (v >>> 4)) & 0x00FF00FF;
+        v = (v | (v >>> 8)) & 0x0000FFFF;
+        return v;
+    }
+
+    /**
+     * Résout la grille avec l'algorithme BFS en parcourant les indices de la disposition.
+     * Le parcours (ordre des directions, file) est le même que celui de {@link Solver#resoudreBFS(Labyrinthe)}.
+     *
+     * @return la liste des coordonnées du chemin trouvé, ou une liste vide si aucun chemin
+     */
+    public List<Integer[]> resoudreBFS() {
+        int[] predecesseur = new int[cases.length];
+        Arrays.fill(predecesseur, -2); // -2 : non visitée
+        int[] file = new int[cases.length];
+        int tete = 0, queue = 0;
+        int depart = indice(startX, startY);
+        int sortie = indice(endX, endY);
+        predecesseur[depart] = -1;
+        file[queue++] = depart;
+        cellulesExplorees = 1;
+
+        while (tete < queue) {
+            int c = file[tete++];
+            if (c == sortie) {
+                List<Integer[]> chemin = new ArrayList<>();
+                for (int p = sortie; p != -1; p = predecesseur[p]) {
+                    chemin.add(new Integer[]{ligne(p), colonne(p)});
+                }
+                Collections.reverse(chemin); // Inverser pour obtenir départ -> sortie
+                return chemin;
+            }
+            for (int d = 0; d < 4; d++) {
+                int v = voisin(c, d);
+                if (v >= 0 && predecesseur[v] == -2 && cases[v] != MUR) {
+                    predecesseur[v] = c;
+                    file[queue++] = v;
+                    cellulesExplorees++;
+                }
+            }
+        }
+        return Collections.emptyList(); // Aucun chemin trouvé
+    }
+
+    /**
+     * Reconstruit un labyrinthe classique ({@code char[][]}) à partir de la grille.
+     *
+     * @return un nouveau labyrinthe de mêmes contenu, départ et sortie
+     */
+    public Labyrinthe versLabyrinthe() {
+        char[][] grille = new char[hauteur][largeur];
+        for (int i = 0; i < hauteur; i++) {
+            for (int j = 0; j < largeur; j++) {
+                grille[i][j] = (char) cases[indice(i, j)];
+            }
+        }
+        return new Labyrinthe(grille);
+    }
+
+    /**
+     * Retourne le contenu d'une case.
+     *
+     * @param x la coordonnée X de la case
+     * @param y la coordonnée Y de la case
+     * @return le caractère de la case
+     */
+    public char getCase(int x, int y) { return (char) cases[indice(x, y)]; }
+
+    /**
+     * Retourne la disposition des cases en mémoire.
+     *
+     * @return la disposition
+     */
+    public Disposition getDisposition() { return disposition; }
+
+    /**
+     * Retourne le nombre de cellules atteintes par le dernier BFS.
+     *
+     * @return le nombre de cellules
+     */
+    public int getCellulesExplorees() { return cellulesExplorees; }
+
+    /**
+     * Retourne la hauteur de la grille.
+     *
+     * @return le nombre de lignes
+     */
+    public int getHeight() { return hauteur; }
+
+    /**
+     * Retourne la largeur de la grille.
+     *
+     * @return le nombre de colonnes
+     */
+    public int getWidth() { return largeur; }
+}
@@ -0,0 +1,220 @@
+package com.labyrinthe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index construit une seule fois sur un labyrinthe parfait (passages formant un arbre couvrant).
+ * Stocke le parent, la profondeur et une table de remontée binaire (binary lifting) dans des
+ * tableaux primitifs, ce qui permet de répondre aux requêtes de chemin et de distance entre deux
+ * cases quelconques en O(log n) plus la longueur du chemin, sans aucune recherche.
+ */
+public class IndexArbre {
+    private static final int MUR = -1; // Numéro d'un mur
+    private static final int NON_ATTEINTE = -2; // Numéro provisoire d'une case ouverte pas encore parcourue
+
+    private final int hauteur; // Nombre de lignes de la grille
+    private final int largeur; // Nombre de colonnes de la grille
+    private final int[] numero; // Numéro compact de chaque case (ordre du parcours depuis S), MUR pour un mur
+    private final int[] cellule; // Indice de grille (ligne * largeur + colonne) de chaque numéro
+    private final int[] profondeur; // Profondeur de chaque numéro depuis la racine (S)
+    private final int[][] ancetres; // ancetres[k][n] = numéro de l'ancêtre de n à la distance 2^k
+    private final int niveaux; // Nombre de niveaux de la table de remontée
+
+    /**
+     * Construit l'index à partir d'un labyrinthe, en prenant le départ (S) comme racine.
+     * Seules les cases ouvertes reçoivent un numéro : les tables de remontée ne portent que sur elles.
+     *
+     * @param labyrinthe le labyrinthe à indexer
+     * @throws IllegalArgumentException si les passages ne forment pas un arbre (cycle ou zone isolée)
+     */
+    public IndexArbre(Labyrinthe labyrinthe) {
+        char[][] grid = labyrinthe.getGrid();
+        hauteur = grid.length;
+        largeur = grid[0].length;
+        int taille = hauteur * largeur;
+
+        // Recensement des cases ouvertes et des passages (arêtes) entre elles
+        numero = new int[taille];
+        int nombreCases = 0;
+        long nombreAretes = 0;
+        for (int i = 0; i < hauteur; i++) {
+            for (int j = 0; j < largeur; j++) {
+                if (grid[i][j] != '#') {
+                    numero[i * largeur + j] = NON_ATTEINTE;
+                    nombreCases++;
+                    if (i + 1 < hauteur && grid[i + 1][j] != '#') nombreAretes++;
+                    if (j + 1 < largeur && grid[i][j + 1] != '#') nombreAretes++;
+                } else {
+                    numero[i * largeur + j] = MUR;
+                }
+            }
+        }
+        // Un graphe connexe est un arbre si et seulement s'il possède exactement n - 1 arêtes
+        if (nombreAretes != nombreCases - 1) {
+            throw new IllegalArgumentException("Le labyrinthe n'est pas parfait : " + nombreCases
+                    + " cases pour " + nombreAretes + " passages (attendu : " + (nombreCases - 1) + ").");
+        }
+
+        int niv = 1;
+        while ((1 << niv) < nombreCases) {
+            niv++;
+        }
+        niveaux = niv;
+        cellule = new int[nombreCases];
+        profondeur = new int[nombreCases];
+        ancetres = new int[niveaux][nombreCases];
+
+        // Parcours en largeur depuis la racine : les numéros suivent l'ordre de visite,
+        // si bien que la file du parcours est simplement le tableau cellule
+        int racine = labyrinthe.getStartX() * largeur + labyrinthe.getStartY();
+        if (numero[racine] == MUR) {
+            throw new IllegalArgumentException("Le point de départ n'est pas une case praticable.");
+        }
+        int tete = 0, queue = 0;
+        numero[racine] = queue;
+        cellule[queue++] = racine;
+        ancetres[0][0] = 0; // La racine est son propre parent
+        while (tete < queue) {
+            int n = tete++;
+            int courant = cellule[n];
+            int x = courant / largeur;
+            int y = courant % largeur;
+            if (x > 0) queue = visiter(n, courant - largeur, queue);
+            if (x < hauteur - 1) queue = visiter(n, courant + largeur, queue);
+            if (y > 0) queue = visiter(n, courant - 1, queue);
+            if (y < largeur - 1) queue = visiter(n, courant + 1, queue);
+        }
+        if (queue != nombreCases) {
+            throw new IllegalArgumentException("Le labyrinthe n'est pas parfait : "
+                    + (nombreCases - queue) + " cases inaccessibles depuis le départ.");
+        }
+
+        // Remplissage de la table de remontée dans l'ordre du parcours (parents déjà calculés)
+        for (int k = 1; k < niveaux; k++) {
+            int[] precedent = ancetres[k - 1];
+            int[] actuel = ancetres[k];
+            for (int n = 0; n < queue; n++) {
+                actuel[n] = precedent[precedent[n]];
+            }
+        }
+    }
+
+    /**
+     * Numérote un voisin ouvert non visité comme enfant de la case courante.
+     *
+     * @return la nouvelle taille de la file
+     */
+    private int visiter(int parent, int voisin, int queue) {
+        if (numero[voisin] == NON_ATTEINTE) {
+            numero[voisin] = queue;
+            cellule[queue] = voisin;
+            ancetres[0][queue] = parent;
+            profondeur[queue] = profondeur[parent] + 1;
+            queue++;
+        }
+        return queue;
+    }
+
+    /**
+     * Calcule le plus proche ancêtre commun de deux cases.
+     *
+     * @param a le numéro de la première case
+     * @param b le numéro de la seconde case
+     * @return le numéro de l'ancêtre commun le plus profond
+     */
+    private int ancetreCommun(int a, int b) {
+        if (profondeur[a] < profondeur[b]) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        // Remonter a au niveau de b
+        int ecart = profondeur[a] - profondeur[b];
+        for (int k = 0; ecart != 0; k++, ecart >>= 1) {
+            if ((ecart & 1) != 0) {
+                a = ancetres[k][a];
+            }
+        }
+        if (a == b) {
+            return a;
+        }
+        // Remonter les deux cases tant que leurs ancêtres diffèrent
+        for (int k = niveaux - 1; k >= 0; k--) {
+            if (ancetres[k][a] != ancetres[k][b]) {
+                a = ancetres[k][a];
+                b = ancetres[k][b];
+            }
+        }
+        return ancetres[0][a];
+    }
+
+    /**
+     * Convertit des coordonnées en numéro de case, en vérifiant qu'elle est praticable.
+     */
+    private int indice(int x, int y) {
+        if (x < 0 || x >= hauteur || y < 0 || y >= largeur || numero[x * largeur + y] < 0) {
+            throw new IllegalArgumentException("Case (" + x + ", " + y + ") hors du labyrinthe ou murée.");
+        }
+        return numero[x * largeur + y];
+    }
+
+    /**
+     * Retourne la distance (nombre de déplacements) entre deux cases, en O(log n).
+     *
+     * @param x1 la coordonnée X de la case d'origine
+     * @param y1 la coordonnée Y de la case d'origine
+     * @param x2 la coordonnée X de la case de destination
+     * @param y2 la coordonnée Y de la case de destination
+     * @return la longueur de l'unique chemin entre les deux cases
+     */
+    public int distance(int x1, int y1, int x2, int y2) {
+        int a = indice(x1, y1);
+        int b = indice(x2, y2);
+        return profondeur[a] + profondeur[b] - 2 * profondeur[ancetreCommun(a, b)];
+    }
+
+    /**
+     * Retourne l'unique chemin entre deux cases, en O(log n) plus la longueur du chemin.
+     *
+     * @param x1 la coordonnée X de la case d'origine
+     * @param y1 la coordonnée Y de la case d'origine
+     * @param x2 la coordonnée X de la case de destination
+     * @param y2 la coordonnée Y de la case de destination
+     * @return la liste des coordonnées du chemin, origine et destination incluses
+     */
+    public List<Integer[]> chemin(int x1, int y1, int x2, int y2) {
+        int a = indice(x1, y1);
+        int b = indice(x2, y2);
+        int lca = ancetreCommun(a, b);
+        int montee = profondeur[a] - profondeur[lca];
+        int descente = profondeur[b] - profondeur[lca];
+
+        Integer[][] etapes = new Integer[montee + descente + 1][];
+        // Partie montante : de a jusqu'à l'ancêtre commun
+        for (int n = 0; n <= montee; n++) {
+            etapes[n] = new Integer[]{cellule[a] / largeur, cellule[a] % largeur};
+            a = ancetres[0][a];
+        }
+        // Partie descendante, remplie à rebours depuis b
+        for (int n = montee + descente; n > montee; n--) {
+            etapes[n] = new Integer[]{cellule[b] / largeur, cellule[b] % largeur};
+            b = ancetres[0][b];
+        }
+        List<Integer[]> chemin = new ArrayList<>(etapes.length);
+        for (Integer[] etape : etapes) {
+            chemin.add(etape);
+        }
+        return chemin;
+    }
+
+    /**
+     * Retourne le chemin du départ (S) à la sortie (E) du labyrinthe indexé.
+     *
+     * @param labyrinthe le labyrinthe ayant servi à construire l'index
+     * @return la liste des coordonnées du chemin
+     */
+    public List<Integer[]> cheminDepartSortie(Labyrinthe labyrinthe) {
+        return chemin(labyrinthe.getStartX(), labyrinthe.getStartY(), labyrinthe.getEndX(), labyrinthe.getEndY());
+    }
+}
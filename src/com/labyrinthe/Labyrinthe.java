@@ -1,13 +1,16 @@
 package com.labyrinthe;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 
 /**
  * Représente un labyrinthe avec une grille, un point de départ (S) et une sortie (E).
@@ -17,8 +20,11 @@ public class Labyrinthe {
     private char[][] grid; // Matrice pour stocker le labyrinthe
     private int startX, startY; // Coordonnées de départ (S)
     private int endX, endY; // Coordonnées de sortie (E)
-    private Random random = new Random(); // Générateur aléatoire pour la création du labyrinthe
+    private SplittableRandom random; // Générateur aléatoire pour la création du labyrinthe (propre à l'instance)
+    private long graine; // Graine ayant servi à la génération, pour reproduire le labyrinthe
     private List<int[]> murs = new ArrayList<>(); // Liste des murs pour l'algorithme de Prim
+    private byte[][] poids; // Coût de passage de chaque case (null si toutes les cases coûtent 1)
+    private int poidsMax = 1; // Plus grand coût de passage présent dans la grille
 
     /**
      * Construit un labyrinthe généré aléatoirement avec les dimensions spécifiées.
@@ -27,55 +33,69 @@ public class Labyrinthe {
      * @param largeur la largeur du labyrinthe
      */
     public Labyrinthe(int hauteur, int largeur) {
+        this(hauteur, largeur, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Construit un labyrinthe généré à partir d'une graine : une même graine produit toujours
+     * le même labyrinthe pour des dimensions données.
+     *
+     * @param hauteur la hauteur du labyrinthe
+     * @param largeur la largeur du labyrinthe
+     * @param graine  la graine du générateur aléatoire
+     */
+    public Labyrinthe(int hauteur, int largeur, long graine) {
+        this.graine = graine;
+        this.random = new SplittableRandom(graine);
         grid = new char[hauteur][largeur];
         initialiserLabyrinthe();
         genererLabyrinthe();
     }
 
     /**
-     * Construit un labyrinthe à partir d'un fichier spécifié par son chemin.
+     * Génère un lot de labyrinthes en parallèle sur tous les cœurs disponibles.
+     * Chaque labyrinthe reçoit sa propre graine dérivée de la graine maître et son propre générateur :
+     * aucun état aléatoire n'est partagé entre threads et le lot est identique d'une exécution à l'autre.
      *
-     * @param cheminFichier le chemin vers le fichier contenant le labyrinthe
-     * @throws IOException si le fichier est introuvable, vide ou mal formé
+     * @param nombre  le nombre de labyrinthes à générer
+     * @param hauteur la hauteur des labyrinthes
+     * @param largeur la largeur des labyrinthes
+     * @param graine  la graine maître du lot
+     * @return la liste des labyrinthes, dans l'ordre de leurs graines
      */
-    public Labyrinthe(String cheminFichier) throws IOException {
-        List<String> lignes = new ArrayList<>();
-        // Lecture du fichier ligne par ligne avec gestion automatique des ressources
-        try (BufferedReader lecteur = new BufferedReader(new FileReader(cheminFichier))) {
-            String ligne;
-            while ((ligne = lecteur.readLine()) != null) {
-                if (!ligne.trim().isEmpty()) { // Ignorer les lignes vides
-                    lignes.add(ligne);
-                }
-            }
-        }
-
-        // Vérification que le fichier contient des données
-        if (lignes.isEmpty()) {
-            throw new IOException("Le fichier est vide ou mal formé.");
+    public static List<Labyrinthe> genererLot(int nombre, int hauteur, int largeur, long graine) {
+        SplittableRandom maitre = new SplittableRandom(graine);
+        long[] graines = new long[nombre];
+        for (int i = 0; i < nombre; i++) {
+            graines[i] = maitre.split().nextLong(); // Flux indépendant pour chaque labyrinthe
         }
+        return IntStream.range(0, nombre).parallel()
+                .mapToObj(i -> new Labyrinthe(hauteur, largeur, graines[i]))
+                .toList();
+    }
 
-        int hauteur = lignes.size();
-        int largeur = lignes.get(0).length();
-
-        // Validation des dimensions fixes attendues (19x10)
-        if (hauteur != 10 || largeur != 19) {
-            throw new IOException("Dimensions du labyrinthe invalides. Attendu : 19x10, Trouvé : " + largeur + "x" + hauteur);
+    /**
+     * Construit un labyrinthe à partir d'une copie d'une grille existante.
+     * Les positions du départ (S) et de la sortie (E) sont déduites de la grille.
+     *
+     * @param grille la grille à copier (lignes de même longueur)
+     * @throws IllegalArgumentException si la grille est vide ou si ses lignes n'ont pas la même longueur
+     */
+    public Labyrinthe(char[][] grille) {
+        if (grille.length == 0 || grille[0].length == 0) {
+            throw new IllegalArgumentException("La grille est vide.");
         }
-
-        // Vérification de la cohérence des longueurs de lignes
-        for (String ligne : lignes) {
-            if (ligne.length() != largeur) {
-                throw new IOException("Toutes les lignes doivent avoir la même longueur (19 caractères).");
+        grid = new char[grille.length][];
+        for (int i = 0; i < grille.length; i++) {
+            if (grille[i].length != grille[0].length) {
+                throw new IllegalArgumentException("Toutes les lignes doivent avoir la même longueur.");
             }
-        }
-
-        // Initialisation de la grille et remplissage à partir des lignes lues
-        grid = new char[hauteur][largeur];
-        for (int i = 0; i < hauteur; i++) {
-            String ligne = lignes.get(i);
-            for (int j = 0; j < largeur; j++) {
-                grid[i][j] = ligne.charAt(j);
+            grid[i] = grille[i].clone();
+            for (int j = 0; j < grid[i].length; j++) {
+                if (grid[i][j] >= '1' && grid[i][j] <= '9') {
+                    appliquerPoids(i, j, grid[i][j] - '0'); // Terrain pondéré
+                    grid[i][j] = ' ';
+                }
                 if (grid[i][j] == 'S') {
                     startX = i;
                     startY = j;
@@ -87,25 +107,68 @@ public class Labyrinthe {
         }
     }
 
+    /**
+     * Crée une copie indépendante du labyrinthe : grille, coûts de passage, départ, sortie et graine.
+     *
+     * @return la copie
+     */
+    public Labyrinthe copier() {
+        Labyrinthe copie = new Labyrinthe(grid);
+        copie.graine = graine;
+        if (poids != null) {
+            copie.poids = new byte[poids.length][];
+            for (int i = 0; i < poids.length; i++) {
+                copie.poids[i] = poids[i].clone();
+            }
+            copie.poidsMax = poidsMax;
+        }
+        return copie;
+    }
+
+    /**
+     * Construit un labyrinthe à partir d'un fichier spécifié par son chemin.
+     * Les chiffres 1 à 9 désignent des cases praticables dont le coût de passage vaut ce chiffre.
+     *
+     * @param cheminFichier le chemin vers le fichier contenant le labyrinthe
+     * @throws IOException si le fichier est introuvable, vide ou mal formé
+     */
+    public Labyrinthe(String cheminFichier) throws IOException {
+        // Lecture du fichier ligne par ligne avec gestion automatique des ressources
+        try (BufferedReader lecteur = new BufferedReader(new FileReader(cheminFichier))) {
+            chargerGrille(lecteur);
+        }
+    }
+
     /**
      * Construit un labyrinthe à partir d'un flux d'entrée (ressource).
+     * Les chiffres 1 à 9 désignent des cases praticables dont le coût de passage vaut ce chiffre.
      *
      * @param inputStream le flux contenant les données du labyrinthe
      * @throws IOException si le flux est vide ou mal formé
      */
     public Labyrinthe(InputStream inputStream) throws IOException {
-        List<String> lignes = new ArrayList<>();
         // Lecture du flux avec gestion automatique des ressources
         try (BufferedReader lecteur = new BufferedReader(new InputStreamReader(inputStream))) {
-            String ligne;
-            while ((ligne = lecteur.readLine()) != null) {
-                if (!ligne.trim().isEmpty()) { // Ignorer les lignes vides
-                    lignes.add(ligne);
-                }
+            chargerGrille(lecteur);
+        }
+    }
+
+    /**
+     * Lit les lignes d'un lecteur, valide les dimensions et remplit la grille et les poids.
+     *
+     * @param lecteur le lecteur positionné au début des données du labyrinthe
+     * @throws IOException si les données sont vides ou mal formées
+     */
+    private void chargerGrille(BufferedReader lecteur) throws IOException {
+        List<String> lignes = new ArrayList<>();
+        String ligne;
+        while ((ligne = lecteur.readLine()) != null) {
+            if (!ligne.trim().isEmpty()) { // Ignorer les lignes vides
+                lignes.add(ligne);
             }
         }
 
-        // Vérification que le flux contient des données
+        // Vérification que le fichier contient des données
         if (lignes.isEmpty()) {
             throw new IOException("Le fichier est vide ou mal formé.");
         }
@@ -119,8 +182,8 @@ public class Labyrinthe {
         }
 
         // Vérification de la cohérence des longueurs de lignes
-        for (String ligne : lignes) {
-            if (ligne.length() != largeur) {
+        for (String l : lignes) {
+            if (l.length() != largeur) {
                 throw new IOException("Toutes les lignes doivent avoir la même longueur (19 caractères).");
             }
         }
@@ -128,9 +191,16 @@ public class Labyrinthe {
         // Initialisation de la grille et remplissage à partir des lignes lues
         grid = new char[hauteur][largeur];
         for (int i = 0; i < hauteur; i++) {
-            String ligne = lignes.get(i);
+            String l = lignes.get(i);
             for (int j = 0; j < largeur; j++) {
-                grid[i][j] = ligne.charAt(j);
+                char c = l.charAt(j);
+                if (c >= '1' && c <= '9') {
+                    // Terrain pondéré : case praticable avec un coût de passage
+                    grid[i][j] = ' ';
+                    appliquerPoids(i, j, c - '0');
+                    continue;
+                }
+                grid[i][j] = c;
                 if (grid[i][j] == 'S') {
                     startX = i;
                     startY = j;
@@ -170,6 +240,14 @@ public class Labyrinthe {
      */
     public int getEndY() { return endY; }
 
+    /**
+     * Retourne la graine ayant servi à générer le labyrinthe.
+     * Sans signification pour un labyrinthe chargé depuis un fichier, un flux ou une grille.
+     *
+     * @return la graine de génération
+     */
+    public long getGraine() { return graine; }
+
     /**
      * Retourne la largeur du labyrinthe.
      *
@@ -184,6 +262,55 @@ public class Labyrinthe {
      */
     public int getHeight() { return grid.length; }
 
+    /**
+     * Retourne le coût de passage d'une case (coût pour y entrer).
+     *
+     * @param x la coordonnée X de la case
+     * @param y la coordonnée Y de la case
+     * @return le coût, entre 1 et 9
+     */
+    public int getPoids(int x, int y) {
+        return poids == null ? 1 : poids[x][y];
+    }
+
+    /**
+     * Retourne le plus grand coût de passage présent dans le labyrinthe.
+     *
+     * @return le coût maximal, 1 si le labyrinthe n'est pas pondéré
+     */
+    public int getPoidsMax() { return poidsMax; }
+
+    /**
+     * Définit le coût de passage d'une case (terrain : boue, eau...).
+     *
+     * @param x     la coordonnée X de la case
+     * @param y     la coordonnée Y de la case
+     * @param valeur le coût, entre 1 et 9
+     * @throws IllegalArgumentException si le coût est hors de l'intervalle [1, 9]
+     */
+    public void definirPoids(int x, int y, int valeur) {
+        appliquerPoids(x, y, valeur);
+    }
+
+    /**
+     * Enregistre le coût d'une case ; appelée aussi par les constructeurs, d'où une méthode privée
+     * qu'une sous-classe ne peut pas redéfinir.
+     */
+    private void appliquerPoids(int x, int y, int valeur) {
+        if (valeur < 1 || valeur > 9) {
+            throw new IllegalArgumentException("Le coût d'une case doit être compris entre 1 et 9 : " + valeur);
+        }
+        if (poids == null) {
+            if (valeur == 1) return; // Pas besoin d'allouer la table pour le coût par défaut
+            poids = new byte[grid.length][grid[0].length];
+            for (byte[] ligne : poids) {
+                Arrays.fill(ligne, (byte) 1);
+            }
+        }
+        poids[x][y] = (byte) valeur;
+        poidsMax = Math.max(poidsMax, valeur);
+    }
+
     /**
      * Initialise le labyrinthe en remplissant la grille de murs ('#').
      */
@@ -204,6 +331,67 @@ public class Labyrinthe {
         return grid;
     }
 
+    /**
+     * Place ou retire un mur sur une case du labyrinthe.
+     * Le départ (S) et la sortie (E) ne peuvent pas être murés.
+     *
+     * @param x   la coordonnée X de la case
+     * @param y   la coordonnée Y de la case
+     * @param mur true pour placer un mur, false pour ouvrir un passage
+     * @return true si la case a été modifiée, false si elle était déjà dans l'état demandé
+     * @throws IllegalArgumentException si la case est hors de la grille ou correspond à S ou E
+     */
+    public boolean definirMur(int x, int y, boolean mur) {
+        verifierModifiable(x, y);
+        if ((grid[x][y] == '#') == mur) {
+            return false; // Aucun changement nécessaire
+        }
+        grid[x][y] = mur ? '#' : ' ';
+        return true;
+    }
+
+    /**
+     * Inverse l'état d'une case : un mur devient un passage et inversement.
+     *
+     * @param x la coordonnée X de la case
+     * @param y la coordonnée Y de la case
+     * @return true si la case est désormais un mur, false si c'est un passage
+     * @throws IllegalArgumentException si la case est hors de la grille ou correspond à S ou E
+     */
+    public boolean basculerMur(int x, int y) {
+        verifierModifiable(x, y);
+        boolean mur = grid[x][y] != '#';
+        grid[x][y] = mur ? '#' : ' ';
+        return mur;
+    }
+
+    /**
+     * Vérifie qu'une case existe et peut recevoir ou perdre un mur.
+     *
+     * @param x la coordonnée X de la case
+     * @param y la coordonnée Y de la case
+     * @throws IllegalArgumentException si la case est hors de la grille ou correspond à S ou E
+     */
+    private void verifierModifiable(int x, int y) {
+        if (x < 0 || x >= grid.length || y < 0 || y >= grid[0].length) {
+            throw new IllegalArgumentException("Case (" + x + ", " + y + ") hors de la grille.");
+        }
+        if (grid[x][y] == 'S' || grid[x][y] == 'E') {
+            throw new IllegalArgumentException("Le départ et la sortie ne peuvent pas être modifiés.");
+        }
+    }
+
+    /**
+     * Indique si une case est un mur.
+     *
+     * @param x la coordonnée X de la case
+     * @param y la coordonnée Y de la case
+     * @return true si la case est un mur
+     */
+    public boolean estMur(int x, int y) {
+        return grid[x][y] == '#';
+    }
+
     /**
      * Génère un labyrinthe aléatoire à l'aide de l'algorithme de Prim.
      */
@@ -215,7 +403,11 @@ public class Labyrinthe {
 
         // Boucle principale de l'algorithme de Prim
         while (!murs.isEmpty()) {
-            int[] mur = murs.remove(random.nextInt(murs.size())); // Sélection aléatoire d'un mur
+            // Sélection aléatoire d'un mur, retiré en O(1) en le remplaçant par le dernier de la liste
+            int indice = random.nextInt(murs.size());
+            int[] mur = murs.get(indice);
+            murs.set(indice, murs.get(murs.size() - 1));
+            murs.remove(murs.size() - 1);
             int mx = mur[0];
             int my = mur[1];
             if (peutPercer(mx, my)) {
@@ -269,7 +461,9 @@ public class Labyrinthe {
     }
 
     /**
-     * Place la sortie (E) dans une position accessible du labyrinthe.
+     * Place la sortie (E) dans une position accessible du labyrinthe. Un labyrinthe généré est parfait :
+     * toutes ses cases ouvertes sont reliées au départ, un simple balayage suffit (sans étiquetage
+     * des composantes, inutile ici et coûteux pour chaque labyrinthe d'un lot).
      */
     private void placerSortieAccessible() {
         List<int[]> casesAccessibles = new ArrayList<>();
@@ -299,7 +493,9 @@ public class Labyrinthe {
      * Marque un chemin sur la grille avec des '+' sauf aux points de départ et sortie.
      *
      * @param chemin la liste des coordonnées du chemin
+     * @deprecated modifie la grille partagée ; utiliser une {@link Superposition}
      */
+    @Deprecated
     public void marquerChemin(List<Integer[]> chemin) {
         for (Integer[] coord : chemin) {
             int x = coord[0];
@@ -310,9 +506,27 @@ public class Labyrinthe {
         }
     }
 
+    /**
+     * Marque un chemin compact sur la grille avec des '+' sauf aux points de départ et sortie.
+     *
+     * @param chemin le chemin compact
+     * @deprecated modifie la grille partagée ; utiliser une {@link Superposition}
+     */
+    @Deprecated
+    public void marquerChemin(CheminCompact chemin) {
+        chemin.parcourir((x, y) -> {
+            if (grid[x][y] != 'S' && grid[x][y] != 'E') {
+                grid[x][y] = '+';
+            }
+        });
+    }
+
     /**
      * Réinitialise les marques '+' en espaces sur la grille.
+     *
+     * @deprecated parcourt toute la grille ; vider la {@link Superposition} du chemin à la place
      */
+    @Deprecated
     public void reinitialiserMarques() {
         for (int i = 0; i < grid.length; i++) {
             for (int j = 0; j < grid[0].length; j++) {
@@ -327,11 +541,20 @@ public class Labyrinthe {
      * Affiche le labyrinthe dans la console avec un espace entre chaque caractère.
      */
     public void afficherLabyrinthe() {
-        for (char[] ligne : grid) {
-            for (char cellule : ligne) {
-                System.out.print(cellule + " "); // Ajout d’un espace pour lisibilité
-            }
-            System.out.println();
+        afficherLabyrinthe(new Superposition[0]);
+    }
+
+    /**
+     * Affiche le labyrinthe dans la console en dessinant des calques par-dessus, sans modifier la grille.
+     * Le dernier calque contenant une case l'emporte ; le départ et la sortie ne sont jamais recouverts.
+     *
+     * @param superpositions les calques à dessiner, du plus bas au plus haut
+     */
+    public void afficherLabyrinthe(Superposition... superpositions) {
+        try {
+            ExportLabyrinthe.exporterTexte(this, System.out, superpositions); // Une écriture par ligne
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 }
@@ -0,0 +1,176 @@
+package com.labyrinthe;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Labyrinthe dont les cases sont stockées hors du tas Java, dans un fichier projeté en mémoire
+ * (un octet par case). Permet de manipuler des grilles bien plus grandes que le tas (par exemple
+ * 100 000 x 100 000) : le système d'exploitation gère la pagination via son cache de pages et
+ * la taille du labyrinthe n'a aucune influence sur le ramasse-miettes.
+ */
+public class LabyrintheHorsTas implements Closeable {
+    private static final byte MUR = 0; // Un fichier neuf (rempli de zéros) ne contient que des murs
+
+    private final TableauHorsTas cases; // Une case par octet, ligne par ligne
+    private final int hauteur; // Nombre de lignes
+    private final int largeur; // Nombre de colonnes
+    private int startX, startY; // Coordonnées de départ (S)
+    private int endX, endY; // Coordonnées de sortie (E)
+
+    /**
+     * Projette un labyrinthe sur un fichier de grille. Un fichier neuf, ou la partie ajoutée à un fichier
+     * trop court, est entièrement muré ; le contenu d'un fichier existant est conservé tel quel, mais
+     * les positions de S et E n'y sont pas recherchées (elles valent (0, 0) jusqu'à {@link #definirCase}).
+     *
+     * @param fichierGrille le fichier support (créé ou agrandi si nécessaire)
+     * @param hauteur       le nombre de lignes
+     * @param largeur       le nombre de colonnes
+     * @throws IOException si le fichier ne peut pas être projeté
+     */
+    public LabyrintheHorsTas(Path fichierGrille, int hauteur, int largeur) throws IOException {
+        this.hauteur = hauteur;
+        this.largeur = largeur;
+        this.cases = new TableauHorsTas(fichierGrille, (long) hauteur * largeur, false);
+    }
+
+    /**
+     * Charge un labyrinthe texte (même format que les fichiers de {@link Labyrinthe}, sans limite de taille)
+     * en le lisant ligne par ligne vers un fichier de grille projeté : seule une ligne réside dans le tas.
+     *
+     * @param fichierTexte  le fichier texte à charger
+     * @param fichierGrille le fichier support de la grille
+     * @return le labyrinthe chargé
+     * @throws IOException si le fichier est introuvable, vide ou mal formé
+     */
+    public static LabyrintheHorsTas charger(Path fichierTexte, Path fichierGrille) throws IOException {
+        // Premier passage : dimensions de la grille
+        int hauteur = 0;
+        int largeur = -1;
+        try (BufferedReader lecteur = Files.newBufferedReader(fichierTexte)) {
+            String ligne;
+            while ((ligne = lecteur.readLine()) != null) {
+                if (ligne.trim().isEmpty()) continue; // Ignorer les lignes vides
+                if (largeur < 0) {
+                    largeur = ligne.length();
+                } else if (ligne.length() != largeur) {
+                    throw new IOException("Toutes les lignes doivent avoir la même longueur (" + largeur + " caractères).");
+                }
+                hauteur++;
+            }
+        }
+        if (hauteur == 0) {
+            throw new IOException("Le fichier est vide ou mal formé.");
+        }
+
+        // Second passage : copie des cases dans la grille projetée
+        LabyrintheHorsTas labyrinthe = new LabyrintheHorsTas(fichierGrille, hauteur, largeur);
+        try (BufferedReader lecteur = Files.newBufferedReader(fichierTexte)) {
+            String ligne;
+            int i = 0;
+            while ((ligne = lecteur.readLine()) != null) {
+                if (ligne.trim().isEmpty()) continue;
+                for (int j = 0; j < largeur; j++) {
+                    labyrinthe.definirCase(i, j, ligne.charAt(j));
+                }
+                i++;
+            }
+        }
+        return labyrinthe;
+    }
+
+    /**
+     * Retourne le contenu d'une case.
+     *
+     * @param x la coordonnée X (ligne) de la case
+     * @param y la coordonnée Y (colonne) de la case
+     * @return le caractère de la case ('#', ' ', 'S', 'E'...)
+     */
+    public char getCase(int x, int y) {
+        byte b = cases.get((long) x * largeur + y);
+        return b == MUR ? '#' : (char) (b & 0xFF);
+    }
+
+    /**
+     * Indique si une case d'indice linéaire donné est praticable.
+     *
+     * @param indice l'indice x * largeur + y de la case
+     * @return true si la case n'est pas un mur
+     */
+    boolean estOuverte(long indice) {
+        return cases.get(indice) != MUR;
+    }
+
+    /**
+     * Modifie une case ; placer 'S' ou 'E' déplace le départ ou la sortie.
+     *
+     * @param x        la coordonnée X de la case
+     * @param y        la coordonnée Y de la case
+     * @param cellule  le caractère à écrire (ASCII)
+     */
+    public void definirCase(int x, int y, char cellule) {
+        cases.set((long) x * largeur + y, cellule == '#' ? MUR : (byte) cellule);
+        if (cellule == 'S') {
+            startX = x;
+            startY = y;
+        } else if (cellule == 'E') {
+            endX = x;
+            endY = y;
+        }
+    }
+
+    /**
+     * Retourne la coordonnée X du point de départ.
+     *
+     * @return la coordonnée X de départ
+     */
+    public int getStartX() { return startX; }
+
+    /**
+     * Retourne la coordonnée Y du point de départ.
+     *
+     * @return la coordonnée Y de départ
+     */
+    public int getStartY() { return startY; }
+
+    /**
+     * Retourne la coordonnée X du point de sortie.
+     *
+     * @return la coordonnée X de sortie
+     */
+    public int getEndX() { return endX; }
+
+    /**
+     * Retourne la coordonnée Y du point de sortie.
+     *
+     * @return la coordonnée Y de sortie
+     */
+    public int getEndY() { return endY; }
+
+    /**
+     * Retourne la largeur du labyrinthe.
+     *
+     * @return la largeur (nombre de colonnes)
+     */
+    public int getWidth() { return largeur; }
+
+    /**
+     * Retourne la hauteur du labyrinthe.
+     *
+     * @return la hauteur (nombre de lignes)
+     */
+    public int getHeight() { return hauteur; }
+
+    /**
+     * Libère la projection du fichier de grille (le fichier est conservé).
+     *
+     * @throws IOException si la fermeture échoue
+     */
+    @Override
+    public void close() throws IOException {
+        cases.close();
+    }
+}
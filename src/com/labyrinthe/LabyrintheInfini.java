@@ -0,0 +1,251 @@
+package com.labyrinthe;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Labyrinthe sans limites, découpé en blocs carrés générés à la demande.
+ * Chaque bloc est un labyrinthe parfait produit de façon déterministe à partir de la graine et de
+ * ses coordonnées, uniquement lorsqu'une de ses cases est consultée. Chaque bloc ouvre au moins
+ * un passage vers son voisin du haut et un vers son voisin de gauche : le monde entier est donc
+ * connexe. Les blocs sont conservés dans un cache borné qui évince les moins récemment utilisés,
+ * si bien que la mémoire dépend des blocs en cours d'utilisation et non de la taille du monde.
+ * Cette classe n'est pas thread-safe.
+ */
+public class LabyrintheInfini {
+    /** Taille (en cases) du côté d'un bloc ; paire pour que les cases des blocs voisins s'alignent. */
+    public static final int TAILLE_BLOC = 32;
+
+    private static final int CELLULES = TAILLE_BLOC / 2; // Cellules de labyrinthe par côté de bloc
+    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}; // Haut, bas, gauche, droite
+
+    private final long graine; // Graine du monde
+    private final Map<Long, char[][]> cache; // Blocs générés, du moins au plus récemment utilisé
+    private long cleDernier = Long.MIN_VALUE; // Clé du dernier bloc consulté (accès rapide)
+    private char[][] blocDernier; // Dernier bloc consulté
+    private long blocsGeneres; // Nombre total de générations (y compris après éviction)
+
+    /**
+     * Construit un monde infini à partir d'une graine.
+     *
+     * @param graine      la graine du monde ; une même graine produit toujours le même monde
+     * @param blocsEnCache le nombre maximal de blocs conservés en mémoire
+     */
+    public LabyrintheInfini(long graine, int blocsEnCache) {
+        if (blocsEnCache < 1) {
+            throw new IllegalArgumentException("Le cache doit contenir au moins un bloc.");
+        }
+        this.graine = graine;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, char[][]> plusAncien) {
+                return size() > blocsEnCache; // Éviction du bloc le moins récemment utilisé
+            }
+        };
+    }
+
+    /**
+     * Retourne le contenu d'une case du monde ('#' pour un mur, ' ' pour un passage).
+     *
+     * @param x la coordonnée X (ligne) de la case, éventuellement négative
+     * @param y la coordonnée Y (colonne) de la case, éventuellement négative
+     * @return le caractère de la case
+     */
+    public char getCase(int x, int y) {
+        int bx = Math.floorDiv(x, TAILLE_BLOC);
+        int by = Math.floorDiv(y, TAILLE_BLOC);
+        return bloc(bx, by)[x - bx * TAILLE_BLOC][y - by * TAILLE_BLOC];
+    }
+
+    /**
+     * Indique si une case est praticable.
+     *
+     * @param x la coordonnée X de la case
+     * @param y la coordonnée Y de la case
+     * @return true si la case n'est pas un mur
+     */
+    public boolean estOuverte(int x, int y) {
+        return getCase(x, y) != '#';
+    }
+
+    /**
+     * Retourne un bloc, en le générant s'il n'est pas (ou plus) en cache.
+     */
+    private char[][] bloc(int bx, int by) {
+        long cle = ((long) bx << 32) | (by & 0xFFFFFFFFL);
+        if (cle == cleDernier) {
+            return blocDernier;
+        }
+        char[][] bloc = cache.get(cle);
+        if (bloc == null) {
+            bloc = genererBloc(bx, by);
+            cache.put(cle, bloc);
+            blocsGeneres++;
+        }
+        cleDernier = cle;
+        blocDernier = bloc;
+        return bloc;
+    }
+
+    /**
+     * Génère un bloc par exploration aléatoire en profondeur, puis perce ses passages
+     * vers les blocs du haut et de gauche.
+     */
+    private char[][] genererBloc(int bx, int by) {
+        char[][] bloc = new char[TAILLE_BLOC][TAILLE_BLOC];
+        for (char[] ligne : bloc) {
+            Arrays.fill(ligne, '#');
+        }
+        SplittableRandom random = new SplittableRandom(melanger(graine, bx, by, 0));
+
+        // Les cellules occupent les positions locales impaires ; la ligne et la colonne 0
+        // sont les murs partagés avec les blocs du haut et de gauche
+        boolean[] visite = new boolean[CELLULES * CELLULES];
+        int[] pile = new int[CELLULES * CELLULES];
+        int taille = 0;
+        int premiere = random.nextInt(CELLULES * CELLULES);
+        pile[taille++] = premiere;
+        visite[premiere] = true;
+        bloc[2 * (premiere / CELLULES) + 1][2 * (premiere % CELLULES) + 1] = ' ';
+        int[] candidats = new int[4];
+        while (taille > 0) {
+            int c = pile[taille - 1];
+            int a = c / CELLULES;
+            int b = c % CELLULES;
+            int nombre = 0;
+            for (int d = 0; d < 4; d++) {
+                int na = a + DIRECTIONS[d][0];
+                int nb = b + DIRECTIONS[d][1];
+                if (na >= 0 && na < CELLULES && nb >= 0 && nb < CELLULES && !visite[na * CELLULES + nb]) {
+                    candidats[nombre++] = d;
+                }
+            }
+            if (nombre == 0) {
+                taille--; // Impasse : retour en arrière
+                continue;
+            }
+            int d = candidats[random.nextInt(nombre)];
+            int na = a + DIRECTIONS[d][0];
+            int nb = b + DIRECTIONS[d][1];
+            bloc[2 * a + 1 + DIRECTIONS[d][0]][2 * b + 1 + DIRECTIONS[d][1]] = ' '; // Mur intermédiaire
+            bloc[2 * na + 1][2 * nb + 1] = ' ';
+            visite[na * CELLULES + nb] = true;
+            pile[taille++] = na * CELLULES + nb;
+        }
+
+        // Passages garantis vers les blocs voisins, choisis à partir des coordonnées du bloc seules
+        bloc[0][2 * (int) Long.remainderUnsigned(melanger(graine, bx, by, 1), CELLULES) + 1] = ' ';
+        bloc[2 * (int) Long.remainderUnsigned(melanger(graine, bx, by, 2), CELLULES) + 1][0] = ' ';
+        return bloc;
+    }
+
+    /**
+     * Mélange la graine et les coordonnées d'un bloc en une valeur pseudo-aléatoire (SplitMix64).
+     */
+    private static long melanger(long graine, int bx, int by, int sel) {
+        long z = graine + 0x9E3779B97F4A7C15L * (bx * 0x632BE59BD9B4E019L + by * 0x85157AF5L + sel + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Trouve le plus court chemin entre deux cases avec un BFS paresseux : seuls les blocs
+     * effectivement atteints sont générés, et la mémoire dépend des cases explorées.
+     *
+     * @param x1             la coordonnée X de la case d'origine
+     * @param y1             la coordonnée Y de la case d'origine
+     * @param x2             la coordonnée X de la case de destination
+     * @param y2             la coordonnée Y de la case de destination
+     * @param limiteCellules le nombre maximal de cases à explorer avant d'abandonner
+     * @return la liste des coordonnées du chemin, ou une liste vide si la limite est atteinte
+     */
+    public List<Integer[]> resoudreBFS(int x1, int y1, int x2, int y2, int limiteCellules) {
+        if (!estOuverte(x1, y1) || !estOuverte(x2, y2)) {
+            return Collections.emptyList();
+        }
+        long depart = cle(x1, y1);
+        long arrivee = cle(x2, y2);
+        Map<Long, Long> predecesseurs = new HashMap<>(); // Case -> prédécesseur (sert aussi de visite)
+        ArrayDeque<Long> file = new ArrayDeque<>();
+        predecesseurs.put(depart, depart);
+        file.add(depart);
+
+        while (!file.isEmpty() && predecesseurs.size() <= limiteCellules) {
+            long courant = file.poll();
+            if (courant == arrivee) {
+                List<Integer[]> chemin = new ArrayList<>();
+                for (long c = arrivee; c != depart; c = predecesseurs.get(c)) {
+                    chemin.add(new Integer[]{(int) (c >> 32), (int) c});
+                }
+                chemin.add(new Integer[]{x1, y1});
+                Collections.reverse(chemin); // Inverser pour obtenir départ -> arrivée
+                return chemin;
+            }
+            int x = (int) (courant >> 32);
+            int y = (int) courant;
+            for (int[] dir : DIRECTIONS) {
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                long voisin = cle(nx, ny);
+                if (!predecesseurs.containsKey(voisin) && estOuverte(nx, ny)) {
+                    predecesseurs.put(voisin, courant);
+                    file.add(voisin);
+                }
+            }
+        }
+        return Collections.emptyList(); // Limite atteinte sans trouver la destination
+    }
+
+    private static long cle(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Extrait une fenêtre rectangulaire du monde sous forme de labyrinthe fini,
+     * affichable par le renderer ou résoluble par le {@link Solver}.
+     *
+     * @param x0      la ligne du coin supérieur gauche
+     * @param y0      la colonne du coin supérieur gauche
+     * @param hauteur le nombre de lignes de la fenêtre
+     * @param largeur le nombre de colonnes de la fenêtre
+     * @return un labyrinthe contenant une copie de la fenêtre
+     */
+    public Labyrinthe fenetre(int x0, int y0, int hauteur, int largeur) {
+        char[][] grille = new char[hauteur][largeur];
+        for (int i = 0; i < hauteur; i++) {
+            for (int j = 0; j < largeur; j++) {
+                grille[i][j] = getCase(x0 + i, y0 + j);
+            }
+        }
+        return new Labyrinthe(grille);
+    }
+
+    /**
+     * Retourne la graine du monde.
+     *
+     * @return la graine
+     */
+    public long getGraine() { return graine; }
+
+    /**
+     * Retourne le nombre de blocs actuellement en cache.
+     *
+     * @return le nombre de blocs en mémoire
+     */
+    public int getBlocsEnCache() { return cache.size(); }
+
+    /**
+     * Retourne le nombre total de blocs générés, régénérations après éviction comprises.
+     *
+     * @return le nombre de générations
+     */
+    public long getBlocsGeneres() { return blocsGeneres; }
+}
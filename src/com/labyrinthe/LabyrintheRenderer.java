@@ -1,45 +1,46 @@
 package com.labyrinthe;
 
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
+import javafx.scene.transform.Scale;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Gère l'affichage graphique d'un labyrinthe en utilisant JavaFX.
  * Permet de rendre la grille, mettre à jour des cellules spécifiques et ajuster la taille des cellules.
+ * Chaque cellule est une vue sur une tuile de l'atlas de {@link Resources}, déjà à la bonne taille :
+ * redessiner une cellule ne fait que changer la portion affichée de l'atlas.
  */
 public class LabyrintheRenderer {
     private final GridPane gridPane; // Conteneur JavaFX pour afficher la grille
     private final Labyrinthe labyrinthe; // Instance du labyrinthe à afficher
-    private final Image murImage; // Image pour les murs
-    private final Image departImage; // Image pour le point de départ
-    private final Image sortieImage; // Image pour la sortie
-    private final Image exploreImage; // Image pour les cellules explorées
-    private final Image cheminImage; // Image pour les cellules du chemin solution
-    private double cellSize; // Taille actuelle des cellules en pixels
+    private final Resources resources; // Ressources fournissant l'atlas des tuiles
+    private int cellSize; // Taille actuelle des cellules en pixels (entière : l'atlas n'est jamais redimensionné)
+    private Image atlas; // Atlas des tuiles à la taille actuelle
+    private ImageView[][] vues; // Vue affichée pour chaque cellule
+    private final Scale echelle = new Scale(1, 1); // Mise à l'échelle de toute la grille pendant un redimensionnement
+    private final List<Superposition> superpositions = new ArrayList<>(); // Calques dessinés par-dessus la grille
+    private long cellulesMisesAJour; // Nombre total de cellules redessinées, lu par le panneau de performances
 
     /**
      * Construit un renderer pour afficher un labyrinthe dans une grille JavaFX.
      *
-     * @param gridPane     le conteneur GridPane pour l'affichage
-     * @param labyrinthe   le labyrinthe à rendre
-     * @param murImage     l'image représentant les murs
-     * @param departImage  l'image représentant le point de départ
-     * @param sortieImage  l'image représentant la sortie
-     * @param exploreImage l'image pour les cellules explorées
-     * @param cheminImage  l'image pour les cellules du chemin solution
-     * @param cellSize     la taille initiale des cellules en pixels
-     */
-    public LabyrintheRenderer(GridPane gridPane, Labyrinthe labyrinthe, Image murImage, Image departImage,
-                              Image sortieImage, Image exploreImage, Image cheminImage, double cellSize) {
+     * @param gridPane   le conteneur GridPane pour l'affichage
+     * @param labyrinthe le labyrinthe à rendre
+     * @param resources  les ressources chargées (atlas des tuiles)
+     * @param cellSize   la taille initiale des cellules en pixels
+     */
+    public LabyrintheRenderer(GridPane gridPane, Labyrinthe labyrinthe, Resources resources, double cellSize) {
         this.gridPane = gridPane;
         this.labyrinthe = labyrinthe;
-        this.murImage = murImage;
-        this.departImage = departImage;
-        this.sortieImage = sortieImage;
-        this.exploreImage = exploreImage;
-        this.cheminImage = cheminImage;
-        this.cellSize = cellSize;
+        this.resources = resources;
+        this.cellSize = Math.max(1, (int) cellSize);
+        this.atlas = resources.getAtlas(this.cellSize);
+        gridPane.getTransforms().setAll(echelle); // Remplacer l'échelle d'un renderer précédent
     }
 
     /**
@@ -48,10 +49,12 @@ public class LabyrintheRenderer {
     public void afficherLabyrinthe() {
         gridPane.getChildren().clear(); // Vider le contenu actuel du GridPane
         char[][] grid = labyrinthe.getGrid();
+        vues = new ImageView[grid.length][grid[0].length];
         // Parcourir chaque cellule de la grille pour l'afficher
         for (int i = 0; i < grid.length; i++) {
             for (int j = 0; j < grid[0].length; j++) {
-                ImageView imageView = createImageView(grid[i][j]);
+                ImageView imageView = createImageView(tuile(caseAffichee(i, j)));
+                vues[i][j] = imageView;
                 gridPane.add(imageView, j, i); // Ajouter l'image à la position (colonne, ligne)
             }
         }
@@ -65,23 +68,115 @@ public class LabyrintheRenderer {
      * @param type le type de mise à jour ("explore" ou "chemin")
      */
     public void mettreAJourCase(int x, int y, String type) {
-        ImageView imageView;
-        // Sélectionner l'image appropriée en fonction du type
+        // Sélectionner la tuile appropriée en fonction du type
         switch (type) {
             case "explore":
-                imageView = new ImageView(exploreImage);
+                afficherTuile(vues[x][y], Resources.TUILE_EXPLORE);
                 break;
             case "chemin":
-                imageView = new ImageView(cheminImage);
+                afficherTuile(vues[x][y], Resources.TUILE_CHEMIN);
                 break;
             default:
                 return; // Ignorer les types non reconnus
         }
-        imageView.setFitWidth(cellSize); // Ajuster la largeur de l'image
-        imageView.setFitHeight(cellSize); // Ajuster la hauteur de l'image
-        // Supprimer l'ancienne image à cette position, si elle existe
-        gridPane.getChildren().removeIf(node -> GridPane.getRowIndex(node) == x && GridPane.getColumnIndex(node) == y);
-        gridPane.add(imageView, y, x); // Ajouter la nouvelle image (inversion colonne/ligne pour GridPane)
+    }
+
+    /**
+     * Redessine une cellule à partir de son état actuel dans la grille du labyrinthe.
+     *
+     * @param x la coordonnée X (ligne) de la cellule
+     * @param y la coordonnée Y (colonne) de la cellule
+     */
+    public void rafraichirCase(int x, int y) {
+        afficherTuile(vues[x][y], tuile(caseAffichee(x, y)));
+    }
+
+    /**
+     * Affiche un chemin en marquant chacune de ses cellules.
+     *
+     * @param chemin la liste des coordonnées du chemin
+     */
+    public void afficherChemin(List<Integer[]> chemin) {
+        for (Integer[] coord : chemin) {
+            mettreAJourCase(coord[0], coord[1], "chemin");
+        }
+    }
+
+    /**
+     * Efface un chemin affiché en redessinant ses cellules depuis la grille.
+     *
+     * @param chemin la liste des coordonnées du chemin
+     */
+    public void effacerChemin(List<Integer[]> chemin) {
+        for (Integer[] coord : chemin) {
+            rafraichirCase(coord[0], coord[1]);
+        }
+    }
+
+    /**
+     * Affiche un chemin compact en marquant chacune de ses cellules.
+     *
+     * @param chemin le chemin compact
+     */
+    public void afficherChemin(CheminCompact chemin) {
+        chemin.parcourir((x, y) -> mettreAJourCase(x, y, "chemin"));
+    }
+
+    /**
+     * Efface un chemin compact affiché en redessinant ses cellules depuis la grille.
+     *
+     * @param chemin le chemin compact
+     */
+    public void effacerChemin(CheminCompact chemin) {
+        chemin.parcourir(this::rafraichirCase);
+    }
+
+    /**
+     * Ajoute un calque au-dessus des précédents et dessine ses cellules.
+     *
+     * @param superposition le calque à afficher
+     */
+    public void ajouterSuperposition(Superposition superposition) {
+        superpositions.add(superposition);
+        rafraichirSuperposition(superposition);
+    }
+
+    /**
+     * Retire un calque et redessine uniquement ses cellules.
+     *
+     * @param superposition le calque à retirer
+     */
+    public void retirerSuperposition(Superposition superposition) {
+        if (superpositions.remove(superposition)) {
+            rafraichirSuperposition(superposition);
+        }
+    }
+
+    /**
+     * Redessine les cellules d'un calque, par exemple après y avoir ajouté des cases.
+     * Pour effacer des cases, les redessiner avant de vider le calque.
+     *
+     * @param superposition le calque dont les cellules sont à redessiner
+     */
+    public void rafraichirSuperposition(Superposition superposition) {
+        superposition.parcourir(this::rafraichirCase);
+    }
+
+    /**
+     * Détermine le caractère à dessiner pour une cellule : celui du calque le plus haut qui la contient,
+     * sinon celui de la grille. Le départ et la sortie ne sont jamais recouverts.
+     */
+    private char caseAffichee(int x, int y) {
+        char cellule = labyrinthe.getGrid()[x][y];
+        if (cellule == 'S' || cellule == 'E') {
+            return cellule;
+        }
+        for (int k = superpositions.size() - 1; k >= 0; k--) {
+            if (superpositions.get(k).contient(x, y)) {
+                return superpositions.get(k).getMarque();
+            }
+        }
+        return cellule;
     }
 
     /**
@@ -92,47 +187,88 @@ public class LabyrintheRenderer {
     }
 
     /**
-     * Crée une vue d'image (ImageView) en fonction du caractère de la cellule.
+     * Associe le caractère d'une cellule à une tuile de l'atlas.
      *
-     * @param cell le caractère représentant la cellule ('#', 'S', 'E', ou autre)
-     * @return une ImageView configurée pour cette cellule
+     * @param cell le caractère représentant la cellule ('#', 'S', 'E', '+', '.' ou autre)
+     * @return la position de la tuile dans l'atlas
      */
-    private ImageView createImageView(char cell) {
-        ImageView imageView;
-        // Associer une image au caractère de la cellule
+    private static int tuile(char cell) {
         switch (cell) {
-            case '#':
-                imageView = new ImageView(murImage);
-                break;
-            case 'S':
-                imageView = new ImageView(departImage);
-                break;
-            case 'E':
-                imageView = new ImageView(sortieImage);
-                break;
-            default:
-                imageView = new ImageView(); // Case vide sans image spécifique
-                break;
+            case '#': return Resources.TUILE_MUR;
+            case 'S': return Resources.TUILE_DEPART;
+            case 'E': return Resources.TUILE_SORTIE;
+            case Superposition.CHEMIN: return Resources.TUILE_CHEMIN;
+            case Superposition.EXPLORATION: return Resources.TUILE_EXPLORE;
+            default: return Resources.TUILE_VIDE; // Case vide : tuile transparente
         }
-        imageView.setFitWidth(cellSize); // Définir la largeur de l'image
-        imageView.setFitHeight(cellSize); // Définir la hauteur de l'image
+    }
+
+    /**
+     * Crée une vue d'image (ImageView) sur une tuile de l'atlas.
+     *
+     * @param tuile la position de la tuile dans l'atlas
+     * @return une ImageView configurée pour cette cellule
+     */
+    private ImageView createImageView(int tuile) {
+        ImageView imageView = new ImageView(atlas);
+        imageView.setPickOnBounds(true); // Cliquable même sur une tuile transparente
+        afficherTuile(imageView, tuile);
         return imageView;
     }
 
+    /**
+     * Affiche une tuile de l'atlas courant dans une vue, sans mise à l'échelle.
+     */
+    private void afficherTuile(ImageView imageView, int tuile) {
+        cellulesMisesAJour++;
+        imageView.setUserData(tuile); // Retenu pour changer d'atlas lors d'un redimensionnement
+        imageView.setViewport(new Rectangle2D(tuile * cellSize, 0, cellSize, cellSize));
+    }
+
+    /**
+     * Retourne le nombre total de cellules redessinées depuis la création du renderer.
+     * Lu sur le thread JavaFX, comme toutes les mises à jour de l'affichage.
+     *
+     * @return le compteur de cellules redessinées
+     */
+    public long getCellulesMisesAJour() { return cellulesMisesAJour; }
+
+    /**
+     * Met la grille à l'échelle d'une nouvelle taille de cellule par une seule transformation, en O(1).
+     * Destiné aux redimensionnements en cours ; {@link #ajusterTailleCellules(double)} redessine ensuite
+     * les cellules avec un atlas net.
+     *
+     * @param newCellSize la nouvelle taille des cellules en pixels
+     */
+    public void mettreAEchelle(double newCellSize) {
+        double facteur = Math.max(1, newCellSize) / cellSize;
+        echelle.setPivotX(gridPane.getWidth() / 2); // Le contenu est centré dans le GridPane
+        echelle.setPivotY(gridPane.getHeight() / 2);
+        echelle.setX(facteur);
+        echelle.setY(facteur);
+    }
+
     /**
      * Ajuste dynamiquement la taille des cellules affichées dans le GridPane.
+     * Les cellules passent à l'atlas de la taille entière inférieure et la transformation
+     * ne garde que la fraction de pixel restante ; rien n'est redessiné si la taille entière ne change pas.
      *
      * @param newCellSize la nouvelle taille des cellules en pixels
      */
     public void ajusterTailleCellules(double newCellSize) {
-        this.cellSize = newCellSize;
-        // Mettre à jour la taille de toutes les ImageView existantes
-        gridPane.getChildren().forEach(node -> {
-            if (node instanceof ImageView) {
-                ImageView iv = (ImageView) node;
-                iv.setFitWidth(cellSize);
-                iv.setFitHeight(cellSize);
-            }
-        });
+        int taille = Math.max(1, (int) newCellSize);
+        if (taille != cellSize) {
+            this.cellSize = taille;
+            this.atlas = resources.getAtlas(taille); // Atlas déjà mis à l'échelle, en cache par taille
+            // Basculer toutes les vues existantes sur le nouvel atlas
+            gridPane.getChildren().forEach(node -> {
+                if (node instanceof ImageView) {
+                    ImageView iv = (ImageView) node;
+                    iv.setImage(atlas);
+                    afficherTuile(iv, (Integer) iv.getUserData());
+                }
+            });
+        }
+        mettreAEchelle(newCellSize);
     }
 }
@@ -1,5 +1,8 @@
 package com.labyrinthe;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -9,15 +12,43 @@ public class Main {
     /**
      * Méthode principale pour exécuter un test de génération et de résolution de labyrinthe.
      *
-     * @param args les arguments de la ligne de commande (non utilisés ici)
+     * @param args les arguments de la ligne de commande : {@code --graine N} pour reproduire un labyrinthe,
+     *             {@code --banc} pour un banc d'essai ({@code --taille}, {@code --labyrinthes},
+     *             {@code --echauffement}, {@code --mesures}), {@code --service} pour le service HTTP local
+     *             ({@code --port}, {@code --travailleurs}, {@code --file}, {@code --lot}, {@code --delai-lot}),
+     *             {@code --valider FICHIER} pour vérifier en flux que la sortie d'un fichier est accessible
+     *             (code de sortie 0 si elle l'est, 1 sinon, 2 si le fichier est absent ou mal formé),
+     *             {@code --images DOSSIER} pour rendre une résolution en images PNG ({@code --algorithme bfs|dfs},
+     *             {@code --taille}, {@code --pas}, {@code --pixels})
+     * @throws IOException si le service HTTP ne peut pas ouvrir son port ou si les images ne peuvent pas être écrites
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (Arrays.asList(args).contains("--banc")) {
+            lancerBancEssai(args);
+            return;
+        }
+        int valider = Arrays.asList(args).indexOf("--valider");
+        if (valider >= 0) {
+            System.exit(validerFichier(args, valider)); // Code de sortie exploitable par un script de dépôt
+        }
+        if (lireTexte(args, "--images", null) != null) {
+            rendreImages(args);
+            return;
+        }
+        if (Arrays.asList(args).contains("--service")) {
+            lancerService(args);
+            return;
+        }
         int largeur = 19; // Largeur fixe du labyrinthe
         int hauteur = 10; // Hauteur fixe du labyrinthe
 
         // Affichage d'un en-tête pour le test
         System.out.println("\n=== Test avec un labyrinthe " + largeur + "x" + hauteur + " ===");
-        Labyrinthe labyrinthe = new Labyrinthe(hauteur, largeur); // Création d'un labyrinthe aléatoire
+        Long graine = lireGraine(args);
+        Labyrinthe labyrinthe = graine != null
+                ? new Labyrinthe(hauteur, largeur, graine) // Labyrinthe reproduit à partir d'une graine
+                : new Labyrinthe(hauteur, largeur); // Création d'un labyrinthe aléatoire
+        System.out.println("Graine : " + labyrinthe.getGraine() + " (relancer avec --graine pour le reproduire)");
         System.out.println("Labyrinthe initial :");
         labyrinthe.afficherLabyrinthe(); // Affichage du labyrinthe initial
 
@@ -29,11 +60,12 @@ public class Main {
         long durationBFS = System.currentTimeMillis() - startTimeBFS; // Calcul de la durée d'exécution
 
         // Affichage du chemin BFS si trouvé
+        Superposition calqueChemin = new Superposition(labyrinthe, Superposition.CHEMIN); // Chemin affiché sans modifier la grille
         if (!cheminBFS.isEmpty()) {
-            labyrinthe.marquerChemin(cheminBFS); // Marquer le chemin sur la grille
+            calqueChemin.ajouterChemin(cheminBFS);
             System.out.println("\nLabyrinthe avec chemin BFS (+ pour le chemin) :");
-            labyrinthe.afficherLabyrinthe(); // Afficher le labyrinthe avec le chemin
-            labyrinthe.reinitialiserMarques(); // Réinitialiser les marques pour la prochaine résolution
+            labyrinthe.afficherLabyrinthe(calqueChemin); // Afficher le labyrinthe avec le chemin
+            calqueChemin.vider(); // Vider le calque pour la prochaine résolution
         }
 
         // Résolution avec DFS
@@ -43,15 +75,137 @@ public class Main {
 
         // Affichage du chemin DFS si trouvé
         if (!cheminDFS.isEmpty()) {
-            labyrinthe.marquerChemin(cheminDFS); // Marquer le chemin sur la grille
+            calqueChemin.ajouterChemin(cheminDFS);
             System.out.println("\nLabyrinthe avec chemin DFS (+ pour le chemin) :");
-            labyrinthe.afficherLabyrinthe(); // Afficher le labyrinthe avec le chemin
+            labyrinthe.afficherLabyrinthe(calqueChemin); // Afficher le labyrinthe avec le chemin
         }
 
         // Affichage des résultats et comparaison
         afficherResultats(solver, cheminBFS, durationBFS, cheminDFS, durationDFS);
     }
 
+    /**
+     * Lit la graine passée avec l'option {@code --graine} sur la ligne de commande.
+     *
+     * @param args les arguments de la ligne de commande
+     * @return la graine, ou null si l'option est absente
+     */
+    private static Long lireGraine(String[] args) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals("--graine")) {
+                return Long.parseLong(args[i + 1]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lit une option entière sur la ligne de commande.
+     *
+     * @param args   les arguments de la ligne de commande
+     * @param option le nom de l'option (par exemple {@code --mesures})
+     * @param defaut la valeur si l'option est absente
+     * @return la valeur de l'option
+     */
+    private static int lireEntier(String[] args, String option, int defaut) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals(option)) {
+                return Integer.parseInt(args[i + 1]);
+            }
+        }
+        return defaut;
+    }
+
+    /**
+     * Lit une option textuelle sur la ligne de commande.
+     *
+     * @param args   les arguments de la ligne de commande
+     * @param option le nom de l'option (par exemple {@code --images})
+     * @param defaut la valeur si l'option est absente
+     * @return la valeur de l'option
+     */
+    private static String lireTexte(String[] args, String option, String defaut) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals(option)) {
+                return args[i + 1];
+            }
+        }
+        return defaut;
+    }
+
+    /**
+     * Enregistre une résolution puis la rend hors écran en une suite d'images PNG.
+     *
+     * @param args les arguments de la ligne de commande
+     * @throws IOException si les images ne peuvent pas être écrites
+     */
+    private static void rendreImages(String[] args) throws IOException {
+        int taille = lireEntier(args, "--taille", 101);
+        Long graine = lireGraine(args);
+        Labyrinthe labyrinthe = new Labyrinthe(taille, taille, graine != null ? graine : 42L);
+        Solver solver = new Solver(labyrinthe);
+        TraceExploration trace = lireTexte(args, "--algorithme", "bfs").equals("dfs")
+                ? solver.enregistrerDFS(labyrinthe) : solver.enregistrerBFS(labyrinthe);
+        RenduImages rendu = new RenduImages(labyrinthe, trace, lireEntier(args, "--pixels", 4));
+        long debut = System.nanoTime();
+        int images = rendu.rendre(Paths.get(lireTexte(args, "--images", null)), lireEntier(args, "--pas", 1));
+        System.out.printf("%d images (%d étapes) rendues en %.1f s%n", images, trace.getNombreEtapes(),
+                (System.nanoTime() - debut) / 1e9);
+    }
+
+    /**
+     * Vérifie en flux que la sortie du fichier passé après {@code --valider} est accessible depuis le départ.
+     *
+     * @param args     les arguments de la ligne de commande
+     * @param position la position de l'option {@code --valider}
+     * @return le code de sortie : 0 si la sortie est accessible, 1 si elle ne l'est pas,
+     *         2 si le fichier est absent, illisible ou mal formé
+     */
+    private static int validerFichier(String[] args, int position) {
+        if (position + 1 >= args.length || args[position + 1].startsWith("--")) {
+            System.err.println("Usage : --valider FICHIER");
+            return 2;
+        }
+        try {
+            boolean accessible = ValidateurFlux.sortieAccessible(Paths.get(args[position + 1]));
+            System.out.println(accessible ? "Sortie accessible depuis le départ." : "Sortie inaccessible depuis le départ.");
+            return accessible ? 0 : 1;
+        } catch (IOException e) {
+            System.err.println("Fichier invalide : " + e.getMessage());
+            return 2;
+        }
+    }
+
+    /**
+     * Exécute le banc d'essai de tous les algorithmes et affiche son rapport.
+     *
+     * @param args les arguments de la ligne de commande
+     */
+    private static void lancerBancEssai(String[] args) {
+        int taille = lireEntier(args, "--taille", 501);
+        Long graine = lireGraine(args);
+        BancEssai banc = new BancEssai(taille, taille, lireEntier(args, "--labyrinthes", 5),
+                graine != null ? graine : 42L, lireEntier(args, "--echauffement", 20), lireEntier(args, "--mesures", 50));
+        System.out.print(banc.rapport(banc.executer()));
+        System.out.println();
+    }
+
+    /**
+     * Démarre le service HTTP de résolution sur l'interface locale ; il tourne jusqu'à l'arrêt du processus.
+     *
+     * @param args les arguments de la ligne de commande
+     * @throws IOException si le port ne peut pas être ouvert
+     */
+    private static void lancerService(String[] args) throws IOException {
+        ServiceResolution service = new ServiceResolution(lireEntier(args, "--port", 8080),
+                lireEntier(args, "--travailleurs", Runtime.getRuntime().availableProcessors()),
+                lireEntier(args, "--file", 256), lireEntier(args, "--lot", 16), lireEntier(args, "--delai-lot", 200));
+        Runtime.getRuntime().addShutdownHook(new Thread(service::arreter));
+        service.demarrer();
+        System.out.println("Service de résolution : http://localhost:" + service.getPort() + "/resoudre?algorithme=bfs");
+        System.out.println("Statistiques : http://localhost:" + service.getPort() + "/statistiques");
+    }
+
     /**
      * Affiche les résultats des algorithmes BFS et DFS, y compris les performances et les statistiques.
      *
@@ -81,14 +235,8 @@ public class Main {
             System.out.println("Aucun chemin trouvé avec DFS !"); // Message en cas d'échec
         }
 
-        // Comparaison des performances entre BFS et DFS
+        // Une seule mesure à froid ne permet pas de départager les algorithmes
         System.out.println("\nComparaison des performances :");
-        if (durationBFS < durationDFS) {
-            System.out.println("BFS est plus rapide que DFS.");
-        } else if (durationBFS > durationDFS) {
-            System.out.println("DFS est plus rapide que BFS.");
-        } else {
-            System.out.println("BFS et DFS ont la même performance.");
-        }
+        System.out.println("Mesure unique, non significative : relancer avec --banc pour une comparaison statistique.");
     }
 }
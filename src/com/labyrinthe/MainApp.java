@@ -1,6 +1,9 @@
 package com.labyrinthe;
 
+import javafx.animation.PauseTransition;
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -25,6 +28,14 @@ import javafx.scene.paint.LinearGradient;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
+import javafx.util.Duration;
+import javafx.scene.Node;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseEvent;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Application JavaFX principale pour une interface interactive de résolution de labyrinthes.
@@ -33,15 +44,23 @@ public class MainApp extends Application {
     private Labyrinthe labyrinthe; // Instance du labyrinthe affiché
     private GridPane gridPane; // Conteneur pour l'affichage graphique du labyrinthe
     private Solver solver; // Solveur pour les algorithmes BFS et DFS
+    private AnimationSolveur animation; // Animation des résolutions du solveur
+    private boolean resolutionEnDirect; // Résolution en direct en cours : boutons de résolution et édition bloqués
     private LabyrintheRenderer renderer; // Renderer pour l'affichage graphique
     private Resources resources; // Gestionnaire des ressources (images, sons)
+    private SolveurIncremental solveurIncremental; // Solveur LPA* réparé après chaque modification de mur
+    private List<Integer[]> cheminIncremental = Collections.emptyList(); // Dernier chemin affiché après édition
 
     private Label tempsBFSLabel, etapesBFSLabel, cellulesBFSLabel; // Labels pour les stats BFS
     private Label tempsDFSLabel, etapesDFSLabel, cellulesDFSLabel; // Labels pour les stats DFS
     private Label comparaisonLabel; // Label pour la comparaison BFS/DFS
+    private Label editionLabel; // Label pour le résultat de la dernière modification de mur
+    private PanneauPerformances performances; // Panneau de performances affiché par-dessus le labyrinthe
 
     private static final int LABYRINTH_WIDTH = 19;  // Largeur fixe du labyrinthe en colonnes
     private static final int LABYRINTH_HEIGHT = 10; // Hauteur fixe du labyrinthe en lignes
+    private static final int BANC_TAILLE = 201; // Côté des labyrinthes du banc d'essai
+    private static final int DELAI_REDIMENSIONNEMENT = 150; // Délai en ms sans changement de taille avant de redessiner
 
     /**
      * Initialise et affiche l'interface graphique de l'application.
@@ -50,7 +69,7 @@ public class MainApp extends Application {
      */
     @Override
     public void start(Stage primaryStage) {
-        resources = new Resources(); // Chargement des ressources (images, sons)
+        CompletableFuture<Resources> chargement = Resources.chargerAsync(); // Chargement en arrière-plan (images, sons)
         gridPane = new GridPane();
         gridPane.setAlignment(Pos.CENTER); // Centrer le contenu du GridPane
 
@@ -62,11 +81,14 @@ public class MainApp extends Application {
         etapesDFSLabel = createStatLabel("Étapes DFS : -");
         cellulesDFSLabel = createStatLabel("Cellules DFS : -");
         comparaisonLabel = createStatLabel("Comparaison : -");
+        editionLabel = createStatLabel("Édition : cliquez sur une case pour ajouter ou retirer un mur");
 
         // Création des boutons stylés
         Button bfsButton = createStyledButton("Résoudre BFS", "#0078D4");
         Button dfsButton = createStyledButton("Résoudre DFS", "#0078D4");
         Button resetButton = createStyledButton("Nouveau", "#FF5722");
+        Button courseButton = createStyledButton("Course", "#00A86B");
+        Button bancButton = createStyledButton("Banc d'essai", "#6B4FBB");
 
         // Configuration du label et du slider pour la vitesse d'animation
         Label vitesseLabel = new Label("Vitesse : 100 ms");
@@ -81,12 +103,28 @@ public class MainApp extends Application {
         vitesseSlider.valueProperty().addListener((obs, oldVal, newVal) ->
                 vitesseLabel.setText("Vitesse : " + newVal.intValue() + " ms")); // Mise à jour dynamique du label
 
+        // Panneau de performances optionnel, affiché ou masqué par la case à cocher ou la touche F3
+        performances = new PanneauPerformances(gridPane, () -> renderer,
+                () -> animation != null ? animation.getSolverActif() : null); // Solveur de la résolution en cours, y compris en direct
+        CheckBox performancesBox = new CheckBox("Performances (F3)");
+        performancesBox.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 14));
+        performancesBox.setTextFill(Color.WHITE);
+        performancesBox.selectedProperty().addListener((obs, oldVal, newVal) -> performances.setVisible(newVal));
+
+        // Résolution en direct : le solveur publie son exploration, l'affichage suit sans le ralentir
+        CheckBox directBox = new CheckBox("Résolution en direct");
+        directBox.setFont(Font.font("Segoe UI", FontWeight.SEMI_BOLD, 14));
+        directBox.setTextFill(Color.WHITE);
+
         // Mise en page des contrôles (boutons et slider)
-        HBox boutonsBox = new HBox(20, bfsButton, dfsButton, resetButton); // Espacement de 20 entre éléments
+        HBox boutonsBox = new HBox(20, bfsButton, dfsButton, resetButton, courseButton, bancButton); // Espacement de 20 entre éléments
         boutonsBox.setAlignment(Pos.CENTER);
         boutonsBox.setPadding(new Insets(15));
 
-        VBox controleBox = new VBox(20, boutonsBox, vitesseLabel, vitesseSlider);
+        HBox optionsBox = new HBox(20, performancesBox, directBox);
+        optionsBox.setAlignment(Pos.CENTER);
+
+        VBox controleBox = new VBox(20, boutonsBox, vitesseLabel, vitesseSlider, optionsBox);
         controleBox.setAlignment(Pos.CENTER);
         controleBox.setPadding(new Insets(20));
         controleBox.setBackground(new Background(new BackgroundFill(
@@ -104,12 +142,15 @@ public class MainApp extends Application {
         statsGrid.addRow(0, tempsBFSLabel, etapesBFSLabel, cellulesBFSLabel);
         statsGrid.addRow(1, tempsDFSLabel, etapesDFSLabel, cellulesDFSLabel);
         statsGrid.add(comparaisonLabel, 0, 2, 3, 1); // Label de comparaison sur 3 colonnes
+        statsGrid.add(editionLabel, 0, 3, 3, 1); // Label d'édition sur 3 colonnes
         statsGrid.setAlignment(Pos.CENTER);
 
         // Mise en page principale avec BorderPane
         BorderPane root = new BorderPane();
         root.setTop(controleBox); // Contrôles en haut
-        root.setCenter(gridPane); // Labyrinthe au centre
+        StackPane centre = new StackPane(gridPane, performances.getNoeud()); // Panneau de performances par-dessus
+        StackPane.setAlignment(performances.getNoeud(), Pos.TOP_LEFT);
+        root.setCenter(centre); // Labyrinthe au centre
         root.setBottom(statsGrid); // Statistiques en bas
         root.setPadding(new Insets(10));
         root.setBackground(new Background(new BackgroundFill(
@@ -117,28 +158,90 @@ public class MainApp extends Application {
                 CornerRadii.EMPTY, Insets.EMPTY))); // Fond dégradé global
 
         // Actions des boutons
-        bfsButton.setOnAction(e -> solver.animerBFS((int) vitesseSlider.getValue(), tempsBFSLabel, etapesBFSLabel, cellulesBFSLabel, comparaisonLabel));
-        dfsButton.setOnAction(e -> solver.animerDFS((int) vitesseSlider.getValue(), tempsDFSLabel, etapesDFSLabel, cellulesDFSLabel, comparaisonLabel));
+        // Résolution en direct : le labyrinthe est lu par un autre thread, il reste figé jusqu'à la fin
+        Runnable finDirect = () -> {
+            resolutionEnDirect = false;
+            bfsButton.setDisable(false);
+            dfsButton.setDisable(false);
+            resetButton.setDisable(false);
+        };
+        Runnable debutDirect = () -> {
+            resolutionEnDirect = true;
+            bfsButton.setDisable(true);
+            dfsButton.setDisable(true);
+            resetButton.setDisable(true);
+        };
+        bfsButton.setOnAction(e -> {
+            if (directBox.isSelected()) {
+                debutDirect.run();
+                animation.diffuserBFS(tempsBFSLabel, etapesBFSLabel, cellulesBFSLabel, comparaisonLabel, finDirect);
+            } else {
+                animation.animerBFS((int) vitesseSlider.getValue(), tempsBFSLabel, etapesBFSLabel, cellulesBFSLabel, comparaisonLabel);
+            }
+        });
+        dfsButton.setOnAction(e -> {
+            if (directBox.isSelected()) {
+                debutDirect.run();
+                animation.diffuserDFS(tempsDFSLabel, etapesDFSLabel, cellulesDFSLabel, comparaisonLabel, finDirect);
+            } else {
+                animation.animerDFS((int) vitesseSlider.getValue(), tempsDFSLabel, etapesDFSLabel, cellulesDFSLabel, comparaisonLabel);
+            }
+        });
         resetButton.setOnAction(e -> initialiserLabyrinthe());
+        courseButton.setOnAction(e -> new FenetreCourse(labyrinthe).afficher()); // Tous les algorithmes en parallèle
+        bancButton.setOnAction(e -> lancerBancEssai(bancButton));
+        gridPane.setOnMouseClicked(this::modifierMur); // Édition des murs au clic
 
         // Configuration de la scène
         Scene scene = new Scene(root, 1000, 850); // Taille initiale de la fenêtre
         scene.getStylesheets().add(getClass().getResource("/style.css").toExternalForm()); // Application du CSS
+        scene.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.F3) performancesBox.setSelected(!performancesBox.isSelected());
+        });
         primaryStage.setTitle("Labyrinthe Élégant");
 
         // Bindings pour ajuster dynamiquement la taille du GridPane
         gridPane.prefWidthProperty().bind(root.widthProperty().subtract(20));
         gridPane.prefHeightProperty().bind(root.heightProperty().subtract(controleBox.heightProperty().add(statsGrid.heightProperty()).add(40)));
 
-        // Listeners pour redimensionner le labyrinthe lors des changements de taille de fenêtre
-        scene.widthProperty().addListener((obs, oldVal, newVal) -> ajusterLabyrinthe());
-        scene.heightProperty().addListener((obs, oldVal, newVal) -> ajusterLabyrinthe());
+        // Redimensionnement : mise à l'échelle immédiate (une transformation), puis un seul redessin
+        // des cellules une fois le glissement terminé, que la largeur, la hauteur ou les deux aient changé
+        PauseTransition finRedimensionnement = new PauseTransition(Duration.millis(DELAI_REDIMENSIONNEMENT));
+        finRedimensionnement.setOnFinished(e -> ajusterLabyrinthe());
+        ChangeListener<Number> redimensionnement = (obs, ancienne, nouvelle) -> {
+            if (renderer != null) {
+                renderer.mettreAEchelle(calculateCellSize());
+            }
+            finRedimensionnement.playFromStart(); // Repousser le redessin tant que la taille change
+        };
+        gridPane.widthProperty().addListener(redimensionnement);
+        gridPane.heightProperty().addListener(redimensionnement);
 
-        // Initialisation initiale du labyrinthe
-        initialiserLabyrinthe();
+        // Les boutons restent inactifs tant que les ressources ne sont pas chargées
+        bfsButton.setDisable(true);
+        dfsButton.setDisable(true);
+        resetButton.setDisable(true);
+        bancButton.setDisable(true);
+        courseButton.setDisable(true);
 
         primaryStage.setScene(scene);
-        primaryStage.show(); // Afficher la fenêtre
+        primaryStage.show(); // Afficher la fenêtre sans attendre les ressources
+
+        // Initialisation du labyrinthe sur le thread JavaFX une fois les ressources prêtes
+        chargement.whenComplete((chargees, erreur) -> Platform.runLater(() -> {
+            if (erreur != null) {
+                Throwable cause = erreur.getCause() != null ? erreur.getCause() : erreur;
+                showAlert("Erreur", "Chargement des ressources impossible : " + cause.getMessage());
+                return;
+            }
+            resources = chargees;
+            initialiserLabyrinthe();
+            bfsButton.setDisable(false);
+            dfsButton.setDisable(false);
+            resetButton.setDisable(false);
+            bancButton.setDisable(false);
+            courseButton.setDisable(false);
+        }));
     }
 
     /**
@@ -198,13 +301,79 @@ public class MainApp extends Application {
     private void initialiserLabyrinthe() {
         labyrinthe = new Labyrinthe(LABYRINTH_HEIGHT, LABYRINTH_WIDTH); // Nouveau labyrinthe aléatoire
         double cellSize = calculateCellSize(); // Calculer la taille des cellules
-        renderer = new LabyrintheRenderer(gridPane, labyrinthe, resources.getMurImage(), resources.getDepartImage(),
-                resources.getSortieImage(), resources.getExploreImage(), resources.getCheminImage(), cellSize);
+        renderer = new LabyrintheRenderer(gridPane, labyrinthe, resources, cellSize);
         renderer.afficherLabyrinthe(); // Afficher le labyrinthe
-        solver = new Solver(labyrinthe, renderer, resources.getMediaPlayer()); // Nouveau solveur
+        solver = new Solver(labyrinthe); // Nouveau solveur
+        animation = new AnimationSolveur(solver, renderer, resources.getMediaPlayer());
+        solveurIncremental = new SolveurIncremental(labyrinthe); // Solveur incrémental pour l'édition
+        cheminIncremental = Collections.emptyList();
         resetLabels(); // Réinitialiser les labels
     }
 
+    /**
+     * Exécute le banc d'essai en arrière-plan, puis affiche son rapport et sa conclusion.
+     *
+     * @param bancButton le bouton désactivé pendant l'exécution
+     */
+    private void lancerBancEssai(Button bancButton) {
+        bancButton.setDisable(true);
+        comparaisonLabel.setText("Comparaison : banc d'essai en cours...");
+        BancEssai banc = new BancEssai(BANC_TAILLE, BANC_TAILLE, 5, labyrinthe.getGraine(), 10, 30);
+        Thread thread = new Thread(() -> {
+            List<BancEssai.Resultat> resultats;
+            try {
+                resultats = banc.executer();
+            } catch (RuntimeException | OutOfMemoryError e) {
+                Platform.runLater(() -> {
+                    showAlert("Erreur", "Banc d'essai interrompu : " + e);
+                    bancButton.setDisable(false);
+                });
+                return;
+            }
+            String rapport = banc.rapport(resultats);
+            Platform.runLater(() -> {
+                comparaisonLabel.setText(BancEssai.conclusion(resultats));
+                TextArea texte = new TextArea(rapport);
+                texte.setEditable(false);
+                texte.setFont(Font.font("Monospaced", 12));
+                Stage fenetre = new Stage();
+                fenetre.setTitle("Banc d'essai");
+                fenetre.setScene(new Scene(texte, 900, 220));
+                fenetre.show();
+                bancButton.setDisable(false);
+            });
+        }, "banc-essai");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Ajoute ou retire un mur sur la case cliquée, puis répare et redessine le plus court chemin.
+     *
+     * @param event l'événement de clic sur le GridPane
+     */
+    private void modifierMur(MouseEvent event) {
+        Node cible = event.getPickResult().getIntersectedNode();
+        Integer x = GridPane.getRowIndex(cible);
+        Integer y = GridPane.getColumnIndex(cible);
+        if (renderer == null || x == null || y == null) return; // Clic hors d'une cellule
+        if (resolutionEnDirect || animation.estAnimationEnCours()) return; // Grille en cours de lecture par une résolution
+        char cellule = labyrinthe.getGrid()[x][y];
+        if (cellule == 'S' || cellule == 'E') return; // Le départ et la sortie restent fixes
+
+        solveurIncremental.basculerMur(x, y);
+        renderer.effacerChemin(cheminIncremental); // Effacer l'ancien chemin
+        renderer.rafraichirCase(x, y); // Redessiner la case modifiée
+        cheminIncremental = solveurIncremental.calculerChemin(); // Réparation limitée à la zone affectée
+        renderer.afficherChemin(cheminIncremental);
+        if (cheminIncremental.isEmpty()) {
+            editionLabel.setText("Édition : sortie inaccessible (" + solveurIncremental.getExpansions() + " cases recalculées)");
+        } else {
+            editionLabel.setText("Édition : chemin de " + cheminIncremental.size() + " étapes ("
+                    + solveurIncremental.getExpansions() + " cases recalculées)");
+        }
+    }
+
     /**
      * Ajuste la taille des cellules du labyrinthe en fonction des dimensions actuelles.
      */
@@ -237,6 +406,7 @@ public class MainApp extends Application {
         etapesDFSLabel.setText("Étapes DFS : -");
         cellulesDFSLabel.setText("Cellules DFS : -");
         comparaisonLabel.setText("Comparaison : -");
+        editionLabel.setText("Édition : cliquez sur une case pour ajouter ou retirer un mur");
     }
 
     /**
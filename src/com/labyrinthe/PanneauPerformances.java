@@ -0,0 +1,171 @@
+package com.labyrinthe;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Panneau de performances affiché par-dessus le labyrinthe : images par seconde et durée des images
+ * (mesurées à chaque impulsion JavaFX), étapes du solveur par seconde, cellules redessinées par image,
+ * nombre de nœuds du GridPane, mémoire du tas et activité du ramasse-miettes.
+ * Chaque image ne fait qu'accumuler quelques compteurs ; le texte n'est recalculé que quatre fois par seconde.
+ */
+public class PanneauPerformances {
+    private static final long PERIODE_AFFICHAGE = 250_000_000L; // Rafraîchissement du texte toutes les 250 ms
+
+    private final VBox panneau; // Conteneur affiché par-dessus le labyrinthe
+    private final Label imagesLabel; // Images par seconde et durée des images
+    private final Label solveurLabel; // Étapes du solveur par seconde
+    private final Label rendeurLabel; // Cellules redessinées par image et nœuds du GridPane
+    private final Label memoireLabel; // Tas et ramasse-miettes
+    private final GridPane gridPane; // Grille observée
+    private final Supplier<LabyrintheRenderer> renderer; // Renderer courant (remplacé à chaque nouveau labyrinthe)
+    private final Supplier<Solver> solver; // Solveur courant
+    private final List<GarbageCollectorMXBean> ramasseMiettes = ManagementFactory.getGarbageCollectorMXBeans();
+    private final AnimationTimer echantillonneur; // Appelé à chaque impulsion JavaFX
+
+    private long derniereImage; // Instant de l'image précédente
+    private long debutPeriode; // Début de la période d'affichage en cours
+    private int images; // Images de la période
+    private long dureeMax; // Plus longue durée d'image de la période
+    private long cellulesDebut; // Compteur du renderer au début de la période
+    private int etapesDebut; // Progression du solveur au début de la période
+    private Solver solverDebut; // Solveur observé au début de la période
+    private long collectesDebut, tempsCollecteDebut; // Compteurs du ramasse-miettes au début de la période
+
+    /**
+     * Crée le panneau, masqué et à l'arrêt.
+     *
+     * @param gridPane la grille du labyrinthe
+     * @param renderer fournit le renderer courant (peut fournir null)
+     * @param solver   fournit le solveur courant (peut fournir null)
+     */
+    public PanneauPerformances(GridPane gridPane, Supplier<LabyrintheRenderer> renderer, Supplier<Solver> solver) {
+        this.gridPane = gridPane;
+        this.renderer = renderer;
+        this.solver = solver;
+        imagesLabel = creerLabel();
+        solveurLabel = creerLabel();
+        rendeurLabel = creerLabel();
+        memoireLabel = creerLabel();
+        panneau = new VBox(2, imagesLabel, solveurLabel, rendeurLabel, memoireLabel);
+        panneau.setPadding(new Insets(8));
+        panneau.setMaxSize(VBox.USE_PREF_SIZE, VBox.USE_PREF_SIZE); // Ne pas s'étendre sur tout le labyrinthe
+        panneau.setBackground(new Background(new BackgroundFill(Color.web("#000000B0"), new CornerRadii(8), Insets.EMPTY)));
+        panneau.setMouseTransparent(true); // Les clics atteignent le labyrinthe
+        panneau.setVisible(false);
+        echantillonneur = new AnimationTimer() {
+            @Override
+            public void handle(long maintenant) {
+                echantillonner(maintenant);
+            }
+        };
+    }
+
+    /**
+     * Retourne le nœud à placer par-dessus le labyrinthe.
+     *
+     * @return le conteneur du panneau
+     */
+    public VBox getNoeud() { return panneau; }
+
+    /**
+     * Affiche ou masque le panneau ; les mesures ne tournent que lorsqu'il est visible.
+     *
+     * @param visible true pour afficher le panneau
+     */
+    public void setVisible(boolean visible) {
+        panneau.setVisible(visible);
+        if (visible) {
+            derniereImage = 0;
+            debutPeriode = 0;
+            echantillonneur.start();
+        } else {
+            echantillonneur.stop();
+        }
+    }
+
+    /**
+     * Mesure une image ; publie les statistiques à la fin de chaque période.
+     */
+    private void echantillonner(long maintenant) {
+        if (derniereImage != 0) {
+            images++;
+            dureeMax = Math.max(dureeMax, maintenant - derniereImage);
+        }
+        derniereImage = maintenant;
+        if (debutPeriode == 0) {
+            commencerPeriode(maintenant);
+            return;
+        }
+        long duree = maintenant - debutPeriode;
+        if (duree < PERIODE_AFFICHAGE) return;
+
+        double secondes = duree / 1e9;
+        imagesLabel.setText(String.format("Images : %.0f/s, moyenne %.1f ms, max %.1f ms",
+                images / secondes, images > 0 ? duree / 1e6 / images : 0, dureeMax / 1e6));
+
+        Solver courant = solver.get();
+        if (courant != null && courant == solverDebut) {
+            int etapes = courant.getProgression();
+            solveurLabel.setText(String.format("Solveur : %.0f étapes/s", Math.max(0, etapes - etapesDebut) / secondes));
+        } else {
+            solveurLabel.setText("Solveur : -");
+        }
+
+        LabyrintheRenderer rendu = renderer.get();
+        long cellules = rendu != null ? rendu.getCellulesMisesAJour() : 0;
+        rendeurLabel.setText(String.format("Rendu : %.1f cellules/image, %d nœuds",
+                images > 0 ? Math.max(0, cellules - cellulesDebut) / (double) images : 0, gridPane.getChildren().size()));
+
+        Runtime runtime = Runtime.getRuntime();
+        long collectes = 0, tempsCollecte = 0;
+        for (GarbageCollectorMXBean gc : ramasseMiettes) {
+            collectes += Math.max(0, gc.getCollectionCount());
+            tempsCollecte += Math.max(0, gc.getCollectionTime());
+        }
+        memoireLabel.setText(String.format("Tas : %d / %d Mo, GC : %d collecte(s), %d ms",
+                (runtime.totalMemory() - runtime.freeMemory()) >> 20, runtime.maxMemory() >> 20,
+                collectes - collectesDebut, tempsCollecte - tempsCollecteDebut));
+
+        commencerPeriode(maintenant);
+    }
+
+    /**
+     * Mémorise l'état des compteurs au début d'une période d'affichage.
+     */
+    private void commencerPeriode(long maintenant) {
+        debutPeriode = maintenant;
+        images = 0;
+        dureeMax = 0;
+        LabyrintheRenderer rendu = renderer.get();
+        cellulesDebut = rendu != null ? rendu.getCellulesMisesAJour() : 0;
+        solverDebut = solver.get();
+        etapesDebut = solverDebut != null ? solverDebut.getProgression() : 0;
+        collectesDebut = 0;
+        tempsCollecteDebut = 0;
+        for (GarbageCollectorMXBean gc : ramasseMiettes) {
+            collectesDebut += Math.max(0, gc.getCollectionCount());
+            tempsCollecteDebut += Math.max(0, gc.getCollectionTime());
+        }
+    }
+
+    private static Label creerLabel() {
+        Label label = new Label("-");
+        label.setFont(Font.font("Monospaced", 12));
+        label.setTextFill(Color.web("#E0E0E0"));
+        return label;
+    }
+}
@@ -0,0 +1,203 @@
+package com.labyrinthe;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Prétraitement par remplissage des impasses : élimine toutes les cases qui ne peuvent pas
+ * appartenir à un chemin entre le départ (S) et la sortie (E).
+ * Une liste de travail contient les cases ouvertes de degré 1 (ou 0) ; chaque case retirée
+ * diminue le degré de ses voisines, qui sont retirées à leur tour. Sur les grandes grilles,
+ * un premier passage est exécuté en parallèle par bandes de lignes, puis un passage séquentiel
+ * termine le travail à travers les frontières entre bandes.
+ */
+public class RemplissageImpasses {
+    private static final int CASES_MIN_PARALLELE = 1 << 16; // En dessous, un seul passage séquentiel
+    private static final int LIGNES_MIN_PAR_BANDE = 64; // Hauteur minimale d'une bande
+
+    private final Labyrinthe labyrinthe; // Labyrinthe d'origine (non modifié)
+    private final int hauteur; // Nombre de lignes
+    private final int largeur; // Nombre de colonnes
+    private final boolean[] elaguee; // Cases retirées par le remplissage
+    private int nombreElaguees; // Nombre de cases retirées
+
+    /**
+     * Exécute le remplissage des impasses sur un labyrinthe, en parallèle si la grille est grande.
+     *
+     * @param labyrinthe le labyrinthe à élaguer
+     */
+    public RemplissageImpasses(Labyrinthe labyrinthe) {
+        this(labyrinthe, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Exécute le remplissage des impasses avec un nombre maximal de bandes parallèles.
+     *
+     * @param labyrinthe le labyrinthe à élaguer
+     * @param parallelisme le nombre maximal de bandes traitées simultanément
+     */
+    public RemplissageImpasses(Labyrinthe labyrinthe, int parallelisme) {
+        this.labyrinthe = labyrinthe;
+        char[][] grid = labyrinthe.getGrid();
+        hauteur = grid.length;
+        largeur = grid[0].length;
+        elaguee = new boolean[hauteur * largeur];
+
+        int bandes = 1;
+        if (hauteur * largeur >= CASES_MIN_PARALLELE) {
+            bandes = Math.max(1, Math.min(parallelisme, hauteur / LIGNES_MIN_PAR_BANDE));
+        }
+        byte[] degre = new byte[hauteur * largeur];
+        Bande[] travaux = new Bande[bandes];
+        for (int b = 0; b < bandes; b++) {
+            travaux[b] = new Bande(grid, degre, hauteur * b / bandes, hauteur * (b + 1) / bandes);
+        }
+
+        // Premier passage : chaque bande élague ses impasses sans toucher aux autres bandes
+        IntStream.range(0, bandes).parallel().forEach(b -> travaux[b].elaguerLocalement());
+
+        // Second passage : report des voisins situés dans d'autres bandes, puis fin du remplissage
+        Bande globale = new Bande(grid, degre, 0, hauteur);
+        for (Bande bande : travaux) {
+            for (int k = 0; k < bande.nombreReportes; k++) {
+                int c = bande.reportes[k];
+                if (!elaguee[c]) {
+                    degre[c]--;
+                    globale.empilerSiImpasse(c);
+                }
+            }
+            nombreElaguees += bande.nombreRetirees;
+        }
+        globale.vider();
+        nombreElaguees += globale.nombreRetirees;
+    }
+
+    /**
+     * Liste de travail limitée à une bande de lignes [debut, fin).
+     */
+    private final class Bande {
+        private final char[][] grid;
+        private final byte[] degre;
+        private final int debut;
+        private final int fin;
+        private int[] pile = new int[64]; // Cases en attente de retrait
+        private int taillePile;
+        private int[] reportes = new int[16]; // Voisins hors bande dont le degré doit diminuer
+        private int nombreReportes;
+        private int nombreRetirees;
+
+        Bande(char[][] grid, byte[] degre, int debut, int fin) {
+            this.grid = grid;
+            this.degre = degre;
+            this.debut = debut;
+            this.fin = fin;
+        }
+
+        /**
+         * Calcule les degrés de la bande, puis retire ses impasses en restant dans la bande.
+         */
+        void elaguerLocalement() {
+            for (int i = debut; i < fin; i++) {
+                for (int j = 0; j < largeur; j++) {
+                    if (grid[i][j] == '#') continue;
+                    int d = 0;
+                    if (i > 0 && grid[i - 1][j] != '#') d++;
+                    if (i < hauteur - 1 && grid[i + 1][j] != '#') d++;
+                    if (j > 0 && grid[i][j - 1] != '#') d++;
+                    if (j < largeur - 1 && grid[i][j + 1] != '#') d++;
+                    degre[i * largeur + j] = (byte) d;
+                    empilerSiImpasse(i * largeur + j);
+                }
+            }
+            vider();
+        }
+
+        /**
+         * Ajoute une case à la liste de travail si c'est une impasse autre que S ou E.
+         */
+        void empilerSiImpasse(int c) {
+            if (degre[c] <= 1 && !estExtremite(c)) {
+                if (taillePile == pile.length) pile = Arrays.copyOf(pile, taillePile * 2);
+                pile[taillePile++] = c;
+            }
+        }
+
+        /**
+         * Retire les impasses jusqu'à épuisement de la liste de travail.
+         */
+        void vider() {
+            while (taillePile > 0) {
+                int c = pile[--taillePile];
+                if (elaguee[c]) continue;
+                elaguee[c] = true;
+                nombreRetirees++;
+                int x = c / largeur;
+                int y = c % largeur;
+                if (x > 0) decrementer(c - largeur, x - 1);
+                if (x < hauteur - 1) decrementer(c + largeur, x + 1);
+                if (y > 0) decrementer(c - 1, x);
+                if (y < largeur - 1) decrementer(c + 1, x);
+            }
+        }
+
+        /**
+         * Diminue le degré d'un voisin ouvert, ou le reporte s'il appartient à une autre bande.
+         */
+        private void decrementer(int voisin, int ligne) {
+            if (grid[ligne][voisin % largeur] == '#') return;
+            if (ligne < debut || ligne >= fin) {
+                if (nombreReportes == reportes.length) reportes = Arrays.copyOf(reportes, nombreReportes * 2);
+                reportes[nombreReportes++] = voisin;
+            } else if (!elaguee[voisin]) {
+                degre[voisin]--;
+                empilerSiImpasse(voisin);
+            }
+        }
+    }
+
+    private boolean estExtremite(int c) {
+        int x = c / largeur;
+        int y = c % largeur;
+        return (x == labyrinthe.getStartX() && y == labyrinthe.getStartY())
+                || (x == labyrinthe.getEndX() && y == labyrinthe.getEndY());
+    }
+
+    /**
+     * Indique si une case a été retirée par le remplissage.
+     *
+     * @param x la coordonnée X de la case
+     * @param y la coordonnée Y de la case
+     * @return true si la case ne peut pas appartenir à un chemin de S à E
+     */
+    public boolean estElaguee(int x, int y) {
+        return elaguee[x * largeur + y];
+    }
+
+    /**
+     * Retourne le nombre de cases retirées.
+     *
+     * @return le nombre de cases élaguées
+     */
+    public int getNombreElaguees() { return nombreElaguees; }
+
+    /**
+     * Construit une vue élaguée du labyrinthe, où les cases retirées deviennent des murs.
+     * Cette vue peut être passée directement à {@link Solver#resoudreDFS(Labyrinthe)} ou au renderer :
+     * sur un labyrinthe parfait, elle ne contient plus que le couloir solution.
+     *
+     * @return un nouveau labyrinthe élagué, le labyrinthe d'origine restant inchangé
+     */
+    public Labyrinthe versLabyrinthe() {
+        char[][] grille = labyrinthe.getGrid();
+        char[][] copie = new char[hauteur][];
+        for (int i = 0; i < hauteur; i++) {
+            copie[i] = grille[i].clone();
+            for (int j = 0; j < largeur; j++) {
+                if (elaguee[i * largeur + j]) {
+                    copie[i][j] = '#';
+                }
+            }
+        }
+        return new Labyrinthe(copie);
+    }
+}
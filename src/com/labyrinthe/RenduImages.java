@@ -0,0 +1,105 @@
+package com.labyrinthe;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+/**
+ * Rendu hors écran d'une animation de résolution en une suite d'images PNG, sans fenêtre JavaFX.
+ * Les images sont réparties en blocs consécutifs traités en parallèle : chaque bloc reconstruit
+ * une seule fois l'image de base de sa première étape, puis n'applique que les cases explorées
+ * depuis l'image précédente avant d'encoder la suivante. La dernière image montre en plus le chemin trouvé.
+ */
+public class RenduImages {
+    private static final int BLOCS_PAR_COEUR = 4; // Plusieurs blocs par cœur pour équilibrer la charge
+
+    private final Labyrinthe labyrinthe; // Labyrinthe résolu
+    private final TraceExploration trace; // Trace de la résolution
+    private final int pixelsParCase; // Côté d'une case dans les images
+
+    /**
+     * Prépare le rendu d'une trace.
+     *
+     * @param labyrinthe    le labyrinthe résolu (non modifié)
+     * @param trace         la trace enregistrée par le solveur
+     * @param pixelsParCase le côté d'une case en pixels
+     * @throws IllegalArgumentException si la taille de case n'est pas positive
+     */
+    public RenduImages(Labyrinthe labyrinthe, TraceExploration trace, int pixelsParCase) {
+        if (pixelsParCase <= 0) {
+            throw new IllegalArgumentException("Taille de case invalide : " + pixelsParCase);
+        }
+        this.labyrinthe = labyrinthe;
+        this.trace = trace;
+        this.pixelsParCase = pixelsParCase;
+    }
+
+    /**
+     * Retourne le nombre d'images produites pour un pas donné : une image toutes les {@code pas} étapes
+     * à partir de l'étape 0, puis l'image finale avec le chemin.
+     *
+     * @param pas le nombre d'étapes entre deux images
+     * @return le nombre d'images
+     */
+    public int getNombreImages(int pas) {
+        return (trace.getNombreEtapes() + pas - 1) / pas + 1;
+    }
+
+    /**
+     * Écrit les images {@code image_000000.png}, {@code image_000001.png}... dans un dossier.
+     *
+     * @param dossier le dossier de destination, créé au besoin
+     * @param pas     le nombre d'étapes entre deux images (1 pour toutes les étapes)
+     * @return le nombre d'images écrites
+     * @throws IOException              si le dossier ou une image ne peut pas être écrit
+     * @throws IllegalArgumentException si le pas n'est pas positif
+     */
+    public int rendre(Path dossier, int pas) throws IOException {
+        if (pas <= 0) {
+            throw new IllegalArgumentException("Pas invalide : " + pas);
+        }
+        Files.createDirectories(dossier);
+        int images = getNombreImages(pas);
+        int blocs = Math.min(images, Runtime.getRuntime().availableProcessors() * BLOCS_PAR_COEUR);
+        try {
+            IntStream.range(0, blocs).parallel().forEach(b -> {
+                try {
+                    rendreBloc(dossier, pas, (int) ((long) images * b / blocs), (int) ((long) images * (b + 1) / blocs));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return images;
+    }
+
+    /**
+     * Rend les images {@code [debut, fin)} : image de base de l'étape {@code debut * pas},
+     * puis application des seules nouvelles cases pour chaque image suivante.
+     */
+    private void rendreBloc(Path dossier, int pas, int debut, int fin) throws IOException {
+        int derniere = getNombreImages(pas) - 1;
+        Superposition exploration = new Superposition(labyrinthe, Superposition.EXPLORATION);
+        Superposition chemin = new Superposition(labyrinthe, Superposition.CHEMIN);
+        int appliquees = 0; // Étapes déjà présentes dans le calque d'exploration
+        for (int image = debut; image < fin; image++) {
+            int etape = Math.min(trace.getNombreEtapes(), image * pas);
+            for (; appliquees < etape; appliquees++) {
+                exploration.ajouter(trace.getLigne(appliquees), trace.getColonne(appliquees));
+            }
+            if (image == derniere) {
+                chemin.ajouterChemin(trace.getChemin());
+            }
+            Path fichier = dossier.resolve(String.format("image_%06d.png", image));
+            try (OutputStream sortie = new BufferedOutputStream(Files.newOutputStream(fichier))) {
+                ExportLabyrinthe.exporterPNG(labyrinthe, sortie, pixelsParCase, exploration, chemin);
+            }
+        }
+    }
+}
@@ -1,39 +1,143 @@
 package com.labyrinthe;
 
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
 import javafx.scene.media.Media;
+import javafx.scene.media.MediaException;
 import javafx.scene.media.MediaPlayer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Gère le chargement et l'accès aux ressources graphiques et sonores de l'application.
+ * Les cinq tuiles sont regroupées dans un atlas (une rangée de tuiles, suivie d'une case transparente
+ * pour les cellules vides), décodé directement à la taille des cellules et mis en cache pour chaque
+ * taille entière : dessiner une cellule revient à afficher une portion de l'atlas, sans redimensionnement.
  */
 public class Resources {
-    private final Image murImage; // Image pour les murs du labyrinthe
-    private final Image departImage; // Image pour le point de départ
-    private final Image sortieImage; // Image pour la sortie
-    private final Image exploreImage; // Image pour les cellules explorées
-    private final Image cheminImage; // Image pour les cellules du chemin solution
+    /** Position de la tuile des murs dans l'atlas. */
+    public static final int TUILE_MUR = 0;
+    /** Position de la tuile du départ dans l'atlas. */
+    public static final int TUILE_DEPART = 1;
+    /** Position de la tuile de la sortie dans l'atlas. */
+    public static final int TUILE_SORTIE = 2;
+    /** Position de la tuile des cellules explorées dans l'atlas. */
+    public static final int TUILE_EXPLORE = 3;
+    /** Position de la tuile du chemin dans l'atlas. */
+    public static final int TUILE_CHEMIN = 4;
+    /** Position de la case transparente des cellules vides dans l'atlas. */
+    public static final int TUILE_VIDE = 5;
+
+    private static final String[] FICHIERS_TUILES = {"/mur.png", "/depart.png", "/sortie.png", "/explore.png", "/chemin.png"};
+    private static final int TAILLE_PAR_DEFAUT = 20; // Taille des cellules avant la mise en page
+    private static final int ATLAS_MAX = 4; // Tailles d'atlas gardées en cache (les moins récemment utilisées sont oubliées)
+
+    private final byte[][] tuilesPNG; // Contenu brut des fichiers PNG, décodés à la demande
+    private final Image[] images = new Image[FICHIERS_TUILES.length]; // Images en taille réelle, décodées au premier accès
     private final MediaPlayer mediaPlayer; // Lecteur pour le son de succès
+    private final Map<Integer, Image> atlas = Collections.synchronizedMap(
+            new LinkedHashMap<Integer, Image>(ATLAS_MAX + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, Image> plusAncien) {
+                    return size() > ATLAS_MAX; // Après plusieurs redimensionnements, seules les dernières tailles restent
+                }
+            }); // Atlas déjà mis à l'échelle, par taille de cellule, du moins au plus récemment utilisé
 
     /**
      * Construit une instance de Resources en chargeant les images et le son depuis le dossier /resources/.
-     * Lance une exception si une ressource est introuvable.
+     * Lance une exception si une ressource est introuvable. Préférer {@link #chargerAsync()} depuis l'interface.
      */
     public Resources() {
         // Charger les ressources depuis src/resources/
-        murImage = new Image(getClass().getResourceAsStream("/mur.png")); // Image des murs
-        departImage = new Image(getClass().getResourceAsStream("/depart.png")); // Image du départ
-        sortieImage = new Image(getClass().getResourceAsStream("/sortie.png")); // Image de la sortie
-        exploreImage = new Image(getClass().getResourceAsStream("/explore.png")); // Image des cellules explorées
-        cheminImage = new Image(getClass().getResourceAsStream("/chemin.png")); // Image du chemin solution
+        tuilesPNG = new byte[FICHIERS_TUILES.length][];
+        for (int t = 0; t < FICHIERS_TUILES.length; t++) {
+            tuilesPNG[t] = lireRessource(FICHIERS_TUILES[t]);
+        }
 
         // Chargement du fichier audio
         URL soundUrl = getClass().getResource("/success.wav");
         if (soundUrl == null) {
             throw new RuntimeException("Fichier son 'success.wav' introuvable dans les ressources.");
         }
-        mediaPlayer = new MediaPlayer(new Media(soundUrl.toString())); // Initialisation du lecteur audio
+        MediaPlayer lecteur;
+        try {
+            lecteur = new MediaPlayer(new Media(soundUrl.toString())); // Initialisation du lecteur audio
+        } catch (MediaException e) {
+            lecteur = null; // Aucun lecteur audio disponible sur ce système : l'application reste muette
+        }
+        mediaPlayer = lecteur;
+        atlas.put(TAILLE_PAR_DEFAUT, creerAtlas(TAILLE_PAR_DEFAUT)); // Préparer l'atlas de la taille initiale pendant le chargement
+    }
+
+    /**
+     * Charge les ressources sur un thread démon, pour que la fenêtre s'affiche sans les attendre.
+     *
+     * @return un futur complété par les ressources chargées, ou en erreur si une ressource est introuvable
+     */
+    public static CompletableFuture<Resources> chargerAsync() {
+        Executor demon = tache -> {
+            Thread thread = new Thread(tache, "chargement-ressources");
+            thread.setDaemon(true); // Ne pas empêcher la fermeture de l'application
+            thread.start();
+        };
+        return CompletableFuture.supplyAsync(Resources::new, demon);
+    }
+
+    /**
+     * Lit entièrement une ressource du classpath.
+     */
+    private byte[] lireRessource(String nom) {
+        try (InputStream flux = getClass().getResourceAsStream(nom)) {
+            if (flux == null) {
+                throw new RuntimeException("Fichier '" + nom.substring(1) + "' introuvable dans les ressources.");
+            }
+            return flux.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Retourne l'atlas des tuiles pour une taille de cellule, en le créant au premier appel.
+     * Seules les {@value #ATLAS_MAX} dernières tailles utilisées restent en cache.
+     * Chaque tuile est décodée directement à la taille demandée puis copiée dans l'atlas ;
+     * la tuile d'indice {@code t} occupe le carré commençant à la colonne {@code t * taille}.
+     *
+     * @param taille la taille des cellules en pixels (au moins 1)
+     * @return l'atlas de {@code 6 * taille} par {@code taille} pixels
+     */
+    public Image getAtlas(int taille) {
+        return atlas.computeIfAbsent(Math.max(1, taille), this::creerAtlas);
+    }
+
+    private Image creerAtlas(int taille) {
+        WritableImage image = new WritableImage((TUILE_VIDE + 1) * taille, taille); // Case vide laissée transparente
+        for (int t = 0; t < tuilesPNG.length; t++) {
+            Image tuile = new Image(new ByteArrayInputStream(tuilesPNG[t]), taille, taille, false, true);
+            PixelReader lecteur = tuile.getPixelReader();
+            image.getPixelWriter().setPixels(t * taille, 0, taille, taille, lecteur, 0, 0);
+        }
+        return image;
+    }
+
+    /**
+     * Décode une tuile en taille réelle au premier accès.
+     */
+    private synchronized Image image(int tuile) {
+        if (images[tuile] == null) {
+            images[tuile] = new Image(new ByteArrayInputStream(tuilesPNG[tuile]));
+        }
+        return images[tuile];
     }
 
     /**
@@ -41,40 +145,40 @@ public class Resources {
      *
      * @return l'image des murs
      */
-    public Image getMurImage() { return murImage; }
+    public Image getMurImage() { return image(TUILE_MUR); }
 
     /**
      * Retourne l'image utilisée pour représenter le point de départ.
      *
      * @return l'image du départ
      */
-    public Image getDepartImage() { return departImage; }
+    public Image getDepartImage() { return image(TUILE_DEPART); }
 
     /**
      * Retourne l'image utilisée pour représenter la sortie.
      *
      * @return l'image de la sortie
      */
-    public Image getSortieImage() { return sortieImage; }
+    public Image getSortieImage() { return image(TUILE_SORTIE); }
 
     /**
      * Retourne l'image utilisée pour représenter les cellules explorées.
      *
      * @return l'image des cellules explorées
      */
-    public Image getExploreImage() { return exploreImage; }
+    public Image getExploreImage() { return image(TUILE_EXPLORE); }
 
     /**
      * Retourne l'image utilisée pour représenter les cellules du chemin solution.
      *
      * @return l'image du chemin solution
      */
-    public Image getCheminImage() { return cheminImage; }
+    public Image getCheminImage() { return image(TUILE_CHEMIN); }
 
     /**
      * Retourne le lecteur multimédia pour le son de succès.
      *
-     * @return le MediaPlayer configuré
+     * @return le MediaPlayer configuré, ou null si aucun lecteur audio n'est disponible
      */
     public MediaPlayer getMediaPlayer() { return mediaPlayer; }
 }
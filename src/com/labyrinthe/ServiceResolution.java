@@ -0,0 +1,547 @@
+package com.labyrinthe;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service HTTP local de résolution de labyrinthes, fondé sur le serveur HTTP du JDK.
+ * Chaque requête est lue sur un thread virtuel, puis déposée dans une file bornée : si la file est pleine,
+ * le service répond immédiatement 503 au lieu d'accumuler du retard. Des travailleurs retirent les demandes
+ * par lots (les demandes arrivées à quelques instants d'intervalle sont traitées ensemble) et les résolvent.
+ *
+ * <p>Points d'entrée :</p>
+ * <ul>
+ *     <li>{@code POST /resoudre?algorithme=bfs|dfs|dijkstra|bitparallele|jonctions&format=texte|compact} :
+ *     le corps contient le labyrinthe au format texte (une ligne par rangée, mêmes caractères que les fichiers)
+ *     ou au format compact décrit par {@link #lireCompact(InputStream)} ; la réponse est dans le même format.</li>
+ *     <li>{@code GET /statistiques} : débit, latences et remplissage de la file, au format texte.</li>
+ * </ul>
+ */
+public class ServiceResolution {
+    /**
+     * Algorithmes proposés par le service.
+     */
+    public enum Algorithme { BFS, DFS, DIJKSTRA, BITPARALLELE, JONCTIONS }
+
+    private static final int TAILLE_MAX_CORPS = 64 << 20; // Corps de requête limité à 64 Mo
+    private static final long CELLULES_MAX = 64L << 20; // Labyrinthes limités à 64 millions de cellules
+    private static final int CELLULES_CONSERVEES = 1 << 22; // Espace de travail libéré après un labyrinthe plus grand (48 Mo)
+    private static final long DELAI_REPONSE = 60; // Attente maximale d'une résolution, en secondes
+    private static final int LATENCES_RETENUES = 4096; // Fenêtre des centiles de latence
+
+    /**
+     * Demande en attente dans la file, complétée par un travailleur.
+     */
+    private static final class Demande {
+        private final Labyrinthe labyrinthe; // Labyrinthe reçu
+        private final Algorithme algorithme; // Algorithme demandé
+        private final long arrivee = System.nanoTime(); // Instant de réception
+        private final CompletableFuture<Reponse> reponse = new CompletableFuture<>(); // Résultat
+
+        private Demande(Labyrinthe labyrinthe, Algorithme algorithme) {
+            this.labyrinthe = labyrinthe;
+            this.algorithme = algorithme;
+        }
+    }
+
+    /**
+     * Résultat d'une résolution.
+     */
+    private static final class Reponse {
+        private final List<Integer[]> chemin; // Chemin trouvé, vide si la sortie est inaccessible
+        private final long cellules; // Cellules explorées
+        private final long duree; // Durée de la résolution seule, en nanosecondes
+
+        private Reponse(List<Integer[]> chemin, long cellules, long duree) {
+            this.chemin = chemin;
+            this.cellules = cellules;
+            this.duree = duree;
+        }
+    }
+
+    private final HttpServer serveur; // Serveur HTTP du JDK
+    private final ExecutorService threadsVirtuels; // Un thread virtuel par requête HTTP
+    private final BlockingQueue<Demande> file; // File bornée des demandes en attente
+    private final Thread[] travailleurs; // Travailleurs de résolution
+    private final int tailleLot; // Nombre maximal de demandes retirées ensemble
+    private final long delaiLot; // Attente maximale pour compléter un lot, en nanosecondes
+    private volatile boolean actif; // Faux une fois le service arrêté
+
+    private final AtomicLong acceptees = new AtomicLong(); // Demandes mises en file
+    private final AtomicLong rejetees = new AtomicLong(); // Demandes refusées, file pleine (503)
+    private final AtomicLong invalides = new AtomicLong(); // Requêtes refusées par le client (réponses 4xx)
+    private final AtomicLong echecs = new AtomicLong(); // Résolutions en échec ou trop longues (réponses 5xx hors 503)
+    private final AtomicLong terminees = new AtomicLong(); // Demandes résolues
+    private final AtomicLong lots = new AtomicLong(); // Lots traités
+    private final AtomicLong demandesLots = new AtomicLong(); // Demandes retirées de la file dans un lot, abandonnées comprises
+    private final AtomicLong abandonnees = new AtomicLong(); // Demandes retirées après l'expiration de leur délai, non résolues
+    private final long[] latences = new long[LATENCES_RETENUES]; // Dernières latences (file + résolution), en ns
+    private long nombreLatences; // Nombre total de latences enregistrées (protégé par latences)
+    private long debut; // Instant de démarrage du service
+
+    /**
+     * Prépare le service, à l'écoute de l'interface locale uniquement.
+     *
+     * @param port         le port d'écoute, 0 pour un port libre choisi par le système
+     * @param travailleurs le nombre de travailleurs de résolution
+     * @param capaciteFile le nombre maximal de demandes en attente avant de répondre 503
+     * @param tailleLot    le nombre maximal de demandes traitées dans un même lot
+     * @param delaiLot     l'attente maximale pour compléter un lot, en microsecondes (0 : aucun regroupement forcé)
+     * @throws IOException si le port ne peut pas être ouvert
+     * @throws IllegalArgumentException si un paramètre est hors limites
+     */
+    public ServiceResolution(int port, int travailleurs, int capaciteFile, int tailleLot, long delaiLot) throws IOException {
+        if (travailleurs < 1 || capaciteFile < 1 || tailleLot < 1 || delaiLot < 0) {
+            throw new IllegalArgumentException("Paramètres du service invalides.");
+        }
+        this.file = new ArrayBlockingQueue<>(capaciteFile);
+        this.tailleLot = tailleLot;
+        this.delaiLot = TimeUnit.MICROSECONDS.toNanos(delaiLot);
+        this.travailleurs = new Thread[travailleurs];
+        threadsVirtuels = Executors.newVirtualThreadPerTaskExecutor();
+        serveur = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        serveur.setExecutor(threadsVirtuels);
+    }
+
+    /**
+     * Démarre les travailleurs puis le serveur ; les points d'entrée sont enregistrés ici,
+     * une fois le service entièrement construit.
+     */
+    public void demarrer() {
+        serveur.createContext("/resoudre", this::traiterResolution);
+        serveur.createContext("/statistiques", this::traiterStatistiques);
+        actif = true;
+        debut = System.nanoTime();
+        for (int i = 0; i < travailleurs.length; i++) {
+            travailleurs[i] = new Thread(this::travailler, "service-travailleur-" + i);
+            travailleurs[i].setDaemon(true);
+            travailleurs[i].start();
+        }
+        serveur.start();
+    }
+
+    /**
+     * Arrête le serveur et les travailleurs ; les demandes encore en file échouent.
+     */
+    public void arreter() {
+        actif = false;
+        serveur.stop(0);
+        for (Thread travailleur : travailleurs) {
+            if (travailleur != null) travailleur.interrupt();
+        }
+        List<Demande> restantes = new ArrayList<>();
+        file.drainTo(restantes);
+        for (Demande demande : restantes) {
+            demande.reponse.completeExceptionally(new IllegalStateException("Service arrêté."));
+        }
+        threadsVirtuels.shutdown();
+    }
+
+    /**
+     * Retourne le port d'écoute effectif.
+     *
+     * @return le port
+     */
+    public int getPort() { return serveur.getAddress().getPort(); }
+
+    /**
+     * Boucle d'un travailleur : attend une demande, complète le lot avec celles arrivées entre-temps
+     * (ou dans le délai de regroupement), puis résout tout le lot à la suite.
+     */
+    private void travailler() {
+        List<Demande> lot = new ArrayList<>(tailleLot);
+        Solver.EspaceTravail espace = new Solver.EspaceTravail(); // Propre au travailleur, réutilisé de demande en demande
+        while (actif) {
+            try {
+                lot.add(file.take());
+                long limite = System.nanoTime() + delaiLot;
+                while (lot.size() < tailleLot) {
+                    if (file.drainTo(lot, tailleLot - lot.size()) > 0) continue;
+                    long reste = limite - System.nanoTime();
+                    Demande suivante = reste > 0 ? file.poll(reste, TimeUnit.NANOSECONDS) : null;
+                    if (suivante == null) break;
+                    lot.add(suivante);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (Demande demande : lot) {
+                    demande.reponse.completeExceptionally(new IllegalStateException("Service arrêté."));
+                }
+                return;
+            }
+            lots.incrementAndGet();
+            demandesLots.addAndGet(lot.size());
+            for (Demande demande : lot) {
+                if (demande.reponse.isDone()) { // Délai expiré (504) : plus personne n'attend la réponse
+                    abandonnees.incrementAndGet();
+                    continue;
+                }
+                try {
+                    demande.reponse.complete(resoudre(demande.labyrinthe, demande.algorithme, espace));
+                } catch (RuntimeException | OutOfMemoryError e) {
+                    demande.reponse.completeExceptionally(e);
+                }
+            }
+            lot.clear();
+            if (espace.getCapacite() > CELLULES_CONSERVEES) {
+                espace.liberer(); // Ne pas garder indéfiniment les tableaux d'un très grand labyrinthe
+            }
+        }
+    }
+
+    /**
+     * Résout un labyrinthe avec l'algorithme demandé, BFS et DFS sur l'espace de travail du travailleur.
+     */
+    private static Reponse resoudre(Labyrinthe labyrinthe, Algorithme algorithme, Solver.EspaceTravail espace) {
+        long t0 = System.nanoTime();
+        List<Integer[]> chemin;
+        long cellules;
+        switch (algorithme) {
+            case BFS: {
+                Solver solver = new Solver(labyrinthe, espace);
+                chemin = solver.resoudreBFS(labyrinthe);
+                cellules = solver.getCellulesExploreesBFS();
+                break;
+            }
+            case DFS: {
+                Solver solver = new Solver(labyrinthe, espace);
+                chemin = solver.resoudreDFS(labyrinthe);
+                cellules = solver.getCellulesExploreesDFS();
+                break;
+            }
+            case DIJKSTRA: {
+                Solver solver = new Solver(labyrinthe);
+                chemin = solver.resoudreDijkstra(labyrinthe);
+                cellules = solver.getCellulesExploreesDijkstra();
+                break;
+            }
+            case BITPARALLELE: {
+                SolveurBitParallele solveur = new SolveurBitParallele(labyrinthe);
+                chemin = solveur.resoudre();
+                cellules = solveur.getCellulesExplorees();
+                break;
+            }
+            default: {
+                GrapheJonctions graphe = new GrapheJonctions(labyrinthe);
+                chemin = graphe.resoudre();
+                cellules = graphe.getCellulesCouvertes(); // Cases, comme les autres algorithmes, et non nœuds du graphe
+                break;
+            }
+        }
+        return new Reponse(chemin, cellules, System.nanoTime() - t0);
+    }
+
+    /**
+     * Traite {@code POST /resoudre} sur un thread virtuel.
+     */
+    private void traiterResolution(HttpExchange echange) throws IOException {
+        try (echange) {
+            if (!echange.getRequestMethod().equals("POST")) {
+                repondreErreur(echange, 405, "Méthode attendue : POST");
+                return;
+            }
+            String algorithmeTexte = parametre(echange.getRequestURI(), "algorithme", "bfs");
+            String format = parametre(echange.getRequestURI(), "format", "texte");
+            boolean compact = format.equals("compact");
+            if (!compact && !format.equals("texte")) {
+                repondreErreur(echange, 400, "Format inconnu : " + format);
+                return;
+            }
+            Algorithme algorithme;
+            try {
+                algorithme = Algorithme.valueOf(algorithmeTexte.toUpperCase(Locale.ROOT).replace("-", ""));
+            } catch (IllegalArgumentException e) {
+                repondreErreur(echange, 400, "Algorithme inconnu : " + algorithmeTexte);
+                return;
+            }
+
+            byte[] corps = echange.getRequestBody().readNBytes(TAILLE_MAX_CORPS + 1);
+            if (corps.length > TAILLE_MAX_CORPS) {
+                repondreErreur(echange, 413, "Corps de requête trop volumineux.");
+                return;
+            }
+            Labyrinthe labyrinthe;
+            try {
+                labyrinthe = compact ? lireCompact(new ByteArrayInputStream(corps)) : lireTexte(corps);
+            } catch (IOException | IllegalArgumentException e) {
+                repondreErreur(echange, 400, "Labyrinthe invalide : " + e.getMessage());
+                return;
+            }
+
+            Demande demande = new Demande(labyrinthe, algorithme);
+            if (!file.offer(demande)) { // File pleine : refuser tout de suite plutôt que d'accumuler du retard
+                rejetees.incrementAndGet();
+                echange.getResponseHeaders().set("Retry-After", "1");
+                repondreErreur(echange, 503, "Service saturé, réessayer plus tard.");
+                return;
+            }
+            acceptees.incrementAndGet();
+
+            Reponse reponse;
+            try {
+                reponse = demande.reponse.get(DELAI_REPONSE, TimeUnit.SECONDS); // Bloquer un thread virtuel ne coûte rien
+            } catch (ExecutionException e) {
+                repondreErreur(echange, 500, "Résolution impossible : " + e.getCause());
+                return;
+            } catch (TimeoutException e) {
+                abandonner(demande);
+                repondreErreur(echange, 504, "Résolution trop longue.");
+                return;
+            } catch (InterruptedException e) {
+                abandonner(demande);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            enregistrerLatence(System.nanoTime() - demande.arrivee);
+
+            byte[] sortie = compact ? ecrireCompact(reponse) : ecrireTexte(reponse, algorithme);
+            echange.getResponseHeaders().set("Content-Type", compact ? "application/octet-stream" : "text/plain; charset=utf-8");
+            echange.sendResponseHeaders(200, sortie.length);
+            echange.getResponseBody().write(sortie);
+        }
+    }
+
+    /**
+     * Annule une demande dont plus personne n'attend la réponse : retirée de la file si elle y est encore,
+     * ignorée par le travailleur qui l'aurait déjà prise dans un lot.
+     */
+    private void abandonner(Demande demande) {
+        if (demande.reponse.cancel(false) && file.remove(demande)) {
+            abandonnees.incrementAndGet(); // Jamais prise par un travailleur
+        }
+    }
+
+    /**
+     * Traite {@code GET /statistiques}.
+     */
+    private void traiterStatistiques(HttpExchange echange) throws IOException {
+        try (echange) {
+            if (!echange.getRequestMethod().equals("GET")) {
+                repondreErreur(echange, 405, "Méthode attendue : GET");
+                return;
+            }
+            byte[] sortie = statistiques().getBytes(StandardCharsets.UTF_8);
+            echange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            echange.sendResponseHeaders(200, sortie.length);
+            echange.getResponseBody().write(sortie);
+        }
+    }
+
+    /**
+     * Construit le rapport de débit et de latence, une valeur par ligne ({@code nom valeur}).
+     *
+     * @return le rapport
+     */
+    public String statistiques() {
+        long[] fenetre;
+        synchronized (latences) {
+            fenetre = Arrays.copyOf(latences, (int) Math.min(nombreLatences, LATENCES_RETENUES));
+        }
+        Arrays.sort(fenetre);
+        double secondes = Math.max(1e-9, (System.nanoTime() - debut) / 1e9);
+        long nombreLots = lots.get();
+        long fini = terminees.get();
+        StringBuilder rapport = new StringBuilder();
+        rapport.append("acceptees ").append(acceptees.get()).append('\n');
+        rapport.append("rejetees ").append(rejetees.get()).append('\n');
+        rapport.append("invalides ").append(invalides.get()).append('\n');
+        rapport.append("echecs ").append(echecs.get()).append('\n');
+        rapport.append("terminees ").append(fini).append('\n');
+        rapport.append("en_file ").append(file.size()).append('\n');
+        rapport.append("capacite_file ").append(file.size() + file.remainingCapacity()).append('\n');
+        rapport.append("abandonnees ").append(abandonnees.get()).append('\n');
+        rapport.append("lots ").append(nombreLots).append('\n');
+        rapport.append(String.format(Locale.ROOT, "taille_moyenne_lot %.2f%n",
+                nombreLots > 0 ? (double) demandesLots.get() / nombreLots : 0));
+        rapport.append(String.format(Locale.ROOT, "debit_par_seconde %.1f%n", fini / secondes));
+        rapport.append(String.format(Locale.ROOT, "latence_p50_ms %.3f%n", centile(fenetre, 0.50) / 1e6));
+        rapport.append(String.format(Locale.ROOT, "latence_p95_ms %.3f%n", centile(fenetre, 0.95) / 1e6));
+        rapport.append(String.format(Locale.ROOT, "latence_p99_ms %.3f%n", centile(fenetre, 0.99) / 1e6));
+        rapport.append(String.format(Locale.ROOT, "latence_max_ms %.3f%n", fenetre.length > 0 ? fenetre[fenetre.length - 1] / 1e6 : 0));
+        return rapport.toString();
+    }
+
+    private void enregistrerLatence(long latence) {
+        terminees.incrementAndGet();
+        synchronized (latences) {
+            latences[(int) (nombreLatences++ % LATENCES_RETENUES)] = latence;
+        }
+    }
+
+    private static long centile(long[] tries, double p) {
+        if (tries.length == 0) return 0;
+        return tries[(int) Math.min(tries.length - 1, Math.ceil(p * tries.length) - 1)];
+    }
+
+    private void repondreErreur(HttpExchange echange, int code, String message) throws IOException {
+        if (code >= 400 && code < 500) {
+            invalides.incrementAndGet();
+        } else if (code != 503) { // 503 est compté dans rejetees
+            echecs.incrementAndGet();
+        }
+        byte[] sortie = (message + "\n").getBytes(StandardCharsets.UTF_8);
+        echange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        echange.sendResponseHeaders(code, sortie.length);
+        echange.getResponseBody().write(sortie);
+    }
+
+    /**
+     * Lit un paramètre de la chaîne de requête.
+     */
+    private static String parametre(URI uri, String nom, String defaut) {
+        String requete = uri.getRawQuery();
+        if (requete == null) return defaut;
+        for (String paire : requete.split("&")) {
+            int egal = paire.indexOf('=');
+            if (egal > 0 && paire.substring(0, egal).equals(nom)) {
+                return paire.substring(egal + 1).toLowerCase(Locale.ROOT);
+            }
+        }
+        return defaut;
+    }
+
+    /**
+     * Lit un labyrinthe au format texte : une ligne par rangée, lignes vides ignorées.
+     *
+     * @param corps le texte en UTF-8
+     * @return le labyrinthe
+     * @throws IllegalArgumentException si la grille est mal formée ou sans départ ni sortie
+     */
+    static Labyrinthe lireTexte(byte[] corps) {
+        String[] lignes = new String(corps, StandardCharsets.UTF_8).split("\r?\n");
+        List<char[]> grille = new ArrayList<>(lignes.length);
+        for (String ligne : lignes) {
+            if (!ligne.isEmpty()) grille.add(ligne.toCharArray());
+        }
+        if (grille.isEmpty()) {
+            throw new IllegalArgumentException("La grille est vide.");
+        }
+        if ((long) grille.size() * grille.get(0).length > CELLULES_MAX) {
+            throw new IllegalArgumentException("Labyrinthe trop grand.");
+        }
+        return verifier(new Labyrinthe(grille.toArray(new char[0][])));
+    }
+
+    /**
+     * Lit un labyrinthe au format compact, en gros-boutiste : hauteur, largeur, ligne et colonne du départ,
+     * ligne et colonne de la sortie (six {@code int}), puis un bit par cellule, ligne par ligne, bit de poids
+     * fort en premier (1 pour un mur). Le coût de passage n'est pas transmis : toutes les cases valent 1.
+     *
+     * @param flux le flux à lire
+     * @return le labyrinthe
+     * @throws IOException si le flux est tronqué
+     * @throws IllegalArgumentException si les dimensions ou les positions sont invalides
+     */
+    static Labyrinthe lireCompact(InputStream flux) throws IOException {
+        DataInputStream entree = new DataInputStream(flux);
+        int hauteur = entree.readInt();
+        int largeur = entree.readInt();
+        if (hauteur < 1 || largeur < 1 || (long) hauteur * largeur > CELLULES_MAX) {
+            throw new IllegalArgumentException("Dimensions invalides : " + hauteur + "x" + largeur);
+        }
+        int departX = entree.readInt(), departY = entree.readInt();
+        int sortieX = entree.readInt(), sortieY = entree.readInt();
+        if (departX < 0 || departX >= hauteur || departY < 0 || departY >= largeur
+                || sortieX < 0 || sortieX >= hauteur || sortieY < 0 || sortieY >= largeur) {
+            throw new IllegalArgumentException("Départ ou sortie hors de la grille.");
+        }
+        if (departX == sortieX && departY == sortieY) {
+            throw new IllegalArgumentException("Le départ et la sortie sont confondus.");
+        }
+        byte[] bits = new byte[(int) (((long) hauteur * largeur + 7) / 8)];
+        entree.readFully(bits);
+        char[][] grille = new char[hauteur][largeur];
+        long k = 0;
+        for (int i = 0; i < hauteur; i++) {
+            for (int j = 0; j < largeur; j++, k++) {
+                grille[i][j] = (bits[(int) (k >>> 3)] & (0x80 >>> (k & 7))) != 0 ? '#' : ' ';
+            }
+        }
+        grille[departX][departY] = 'S';
+        grille[sortieX][sortieY] = 'E';
+        return new Labyrinthe(grille);
+    }
+
+    /**
+     * Vérifie que la grille contient un départ et une sortie.
+     */
+    private static Labyrinthe verifier(Labyrinthe labyrinthe) {
+        char[][] grille = labyrinthe.getGrid();
+        if (grille[labyrinthe.getStartX()][labyrinthe.getStartY()] != 'S'
+                || grille[labyrinthe.getEndX()][labyrinthe.getEndY()] != 'E') {
+            throw new IllegalArgumentException("Départ (S) ou sortie (E) manquant.");
+        }
+        return labyrinthe;
+    }
+
+    /**
+     * Écrit la réponse au format texte : une statistique par ligne, puis une case du chemin par ligne.
+     */
+    private static byte[] ecrireTexte(Reponse reponse, Algorithme algorithme) {
+        StringBuilder texte = new StringBuilder(64 + reponse.chemin.size() * 12);
+        texte.append("algorithme ").append(algorithme.name().toLowerCase(Locale.ROOT)).append('\n');
+        texte.append("longueur ").append(reponse.chemin.size()).append('\n');
+        texte.append("cellules ").append(reponse.cellules).append('\n');
+        texte.append("duree_us ").append(reponse.duree / 1000).append('\n');
+        texte.append("chemin\n");
+        for (Integer[] c : reponse.chemin) {
+            texte.append(c[0]).append(' ').append(c[1]).append('\n');
+        }
+        return texte.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Écrit la réponse au format compact, en gros-boutiste : nombre de cases du chemin ({@code int}),
+     * cellules explorées et durée en nanosecondes ({@code long}), puis, si le chemin n'est pas vide,
+     * la case de départ (deux {@code int}) et les pas sur 2 bits (0 haut, 1 bas, 2 gauche, 3 droite),
+     * quatre par octet, bits de poids fort en premier.
+     */
+    private static byte[] ecrireCompact(Reponse reponse) throws IOException {
+        CheminCompact chemin = CheminCompact.depuisListe(reponse.chemin);
+        ByteArrayOutputStream octets = new ByteArrayOutputStream(28 + chemin.getNombrePas() / 4 + 1);
+        DataOutputStream sortie = new DataOutputStream(octets);
+        sortie.writeInt(chemin.taille());
+        sortie.writeLong(reponse.cellules);
+        sortie.writeLong(reponse.duree);
+        if (!chemin.estVide()) {
+            Integer[] depart = chemin.get(0);
+            sortie.writeInt(depart[0]);
+            sortie.writeInt(depart[1]);
+            int octet = 0;
+            for (int i = 0; i < chemin.getNombrePas(); i++) {
+                octet |= chemin.direction(i) << (6 - 2 * (i & 3));
+                if ((i & 3) == 3) {
+                    sortie.writeByte(octet);
+                    octet = 0;
+                }
+            }
+            if ((chemin.getNombrePas() & 3) != 0) sortie.writeByte(octet);
+        }
+        sortie.flush();
+        return octets.toByteArray();
+    }
+}
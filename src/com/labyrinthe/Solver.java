@@ -1,291 +1,307 @@
 package com.labyrinthe;
 
 import java.util.*;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
-import javafx.scene.control.Label;
-import javafx.scene.media.MediaPlayer;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Gère la résolution du labyrinthe avec les algorithmes BFS et DFS, avec ou sans animation.
+ * Gère la résolution du labyrinthe avec les algorithmes BFS, DFS et Dijkstra, d'une traite
+ * ou une étape à la fois. Ne dépend pas de JavaFX : l'animation est pilotée par {@link AnimationSolveur}.
+ * Un solveur conserve ses statistiques et son espace de travail : il ne sert qu'à une résolution à la fois.
  */
 public class Solver {
     private int cellulesExploreesBFS = 0; // Nombre de cellules explorées par BFS
     private int cellulesExploreesDFS = 0; // Nombre de cellules explorées par DFS
     private final Labyrinthe labyrinthe; // Labyrinthe à résoudre
-    private final LabyrintheRenderer renderer; // Renderer pour l'animation (peut être null)
-    private final MediaPlayer mediaPlayer; // Lecteur audio pour le son de succès (peut être null)
 
     private long tempsExecutionBFS; // Temps d'exécution de BFS en millisecondes
     private int nombreEtapesBFS; // Nombre d'étapes effectuées par BFS
     private long tempsExecutionDFS; // Temps d'exécution de DFS en millisecondes
     private int nombreEtapesDFS; // Nombre d'étapes effectuées par DFS
+    private long tempsExecutionDijkstra; // Temps d'exécution de Dijkstra en millisecondes
+    private int nombreEtapesDijkstra; // Nombre de cases définitivement traitées par Dijkstra
+    private int cellulesExploreesDijkstra; // Nombre de cellules atteintes par Dijkstra
+    private final AtomicInteger progression = new AtomicInteger(); // Étapes de la résolution en cours, lisibles depuis un autre thread
+
+    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}; // Haut, bas, gauche, droite
+    private final EspaceTravail espace; // Tableaux de BFS et DFS, réutilisés d'une résolution à l'autre
 
     /**
-     * Construit un solveur avec support pour l'animation et le son.
+     * Tableaux de travail de BFS et DFS (12 octets par case), conservés d'une résolution à l'autre.
+     * Une case est visitée si sa marque vaut l'époque courante : passer à l'époque suivante
+     * efface toutes les marques en O(1), sans parcourir le tableau.
      *
-     * @param labyrinthe  le labyrinthe à résoudre
-     * @param renderer    le renderer pour afficher l'animation
-     * @param mediaPlayer le lecteur audio pour le son de succès
+     * <p>L'espace appartient à l'appelant : chaque solveur a le sien par défaut, mais un même espace
+     * peut être confié à plusieurs solveurs utilisés l'un après l'autre (un par thread de travail par exemple),
+     * puis rendu au ramasse-miettes par {@link #liberer()}. Il ne doit servir qu'à une résolution à la fois.</p>
      */
-    public Solver(Labyrinthe labyrinthe, LabyrintheRenderer renderer, MediaPlayer mediaPlayer) {
-        this.labyrinthe = labyrinthe;
-        this.renderer = renderer;
-        this.mediaPlayer = mediaPlayer;
+    public static final class EspaceTravail {
+        private int[] marques = new int[0]; // Époque de la dernière visite de chaque case
+        private int[] file = new int[0]; // File (BFS) ou pile (DFS) des cases à traiter
+        private int[] predecesseur = new int[0]; // Prédécesseur de chaque case visitée
+        private int epoque; // Époque de la résolution en cours
+
+        /**
+         * Crée un espace vide, dimensionné à la première résolution.
+         */
+        public EspaceTravail() {
+        }
+
+        /**
+         * Retourne le nombre de cases que l'espace peut accueillir sans être agrandi.
+         *
+         * @return la capacité en cases
+         */
+        public int getCapacite() { return marques.length; }
+
+        /**
+         * Abandonne les tableaux ; l'espace sera redimensionné à la prochaine résolution.
+         */
+        public void liberer() {
+            marques = new int[0];
+            file = new int[0];
+            predecesseur = new int[0];
+            epoque = 0;
+        }
+
+        /**
+         * Prépare l'espace pour une grille d'au moins {@code cellules} cases et ouvre une nouvelle époque.
+         */
+        private void preparer(int cellules) {
+            if (marques.length < cellules) { // Agrandi seulement pour un labyrinthe plus grand
+                marques = new int[cellules];
+                file = new int[cellules];
+                predecesseur = new int[cellules];
+                epoque = 0;
+            }
+            if (++epoque == 0) { // Toutes les époques épuisées : effacer réellement les marques
+                Arrays.fill(marques, 0);
+                epoque = 1;
+            }
+        }
     }
 
     /**
-     * Construit un solveur sans animation ni son, pour une résolution en mode console.
+     * Construit un solveur avec son propre espace de travail. L'animation et le son sont gérés
+     * par {@link AnimationSolveur}, côté interface.
      *
      * @param labyrinthe le labyrinthe à résoudre
      */
     public Solver(Labyrinthe labyrinthe) {
-        this.labyrinthe = labyrinthe;
-        this.renderer = null;
-        this.mediaPlayer = null;
+        this(labyrinthe, new EspaceTravail());
     }
 
     /**
-     * Anime la résolution du labyrinthe avec l'algorithme BFS.
+     * Construit un solveur utilisant un espace de travail fourni par l'appelant, pour le réutiliser
+     * d'un solveur à l'autre.
      *
-     * @param delai           le délai entre chaque étape en millisecondes
-     * @param tempsLabel      le label pour afficher le temps d'exécution
-     * @param etapesLabel     le label pour afficher le nombre d'étapes
-     * @param cellulesLabel   le label pour afficher le nombre de cellules explorées
-     * @param comparaisonLabel le label pour afficher la comparaison BFS/DFS
+     * @param labyrinthe le labyrinthe à résoudre
+     * @param espace     l'espace de travail, à ne pas partager entre résolutions simultanées
      */
-    public void animerBFS(int delai, Label tempsLabel, Label etapesLabel, Label cellulesLabel, Label comparaisonLabel) {
-        renderer.reinitialiserAffichage(); // Réinitialiser l'affichage graphique
-
-        char[][] grid = labyrinthe.getGrid();
-        int startX = labyrinthe.getStartX();
-        int startY = labyrinthe.getStartY();
-        int endX = labyrinthe.getEndX();
-        int endY = labyrinthe.getEndY();
-
-        Queue<Integer[]> queue = new LinkedList<>(); // File pour BFS
-        Map<String, Integer[]> predecesseurs = new HashMap<>(); // Suivi des prédécesseurs pour reconstruire le chemin
-        boolean[][] visite = new boolean[grid.length][grid[0].length]; // Tableau des cellules visitées
-
-        queue.add(new Integer[]{startX, startY});
-        visite[startX][startY] = true;
-
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}; // Directions : haut, bas, gauche, droite
-
-        Timeline timeline = new Timeline(); // Animation avec JavaFX
-        timeline.setCycleCount(Timeline.INDEFINITE); // Boucle infinie jusqu'à arrêt explicite
-
-        long startTime = System.currentTimeMillis(); // Temps de début
-        nombreEtapesBFS = 0;
-        cellulesExploreesBFS = 1; // Compter la cellule de départ
-
-        timeline.getKeyFrames().add(new KeyFrame(Duration.millis(delai), event -> {
-            if (!queue.isEmpty()) {
-                Integer[] current = queue.poll(); // Récupérer la prochaine cellule
-                int x = current[0];
-                int y = current[1];
-
-                renderer.mettreAJourCase(x, y, "explore"); // Marquer comme explorée
-                nombreEtapesBFS++;
-
-                if (x == endX && y == endY) { // Si la sortie est atteinte
-                    timeline.stop();
-                    List<Integer[]> chemin = reconstruireChemin(predecesseurs, endX, endY);
-                    afficherChemin(chemin); // Afficher le chemin final
-                    jouerSon(); // Jouer le son de succès
-
-                    tempsExecutionBFS = System.currentTimeMillis() - startTime;
-                    mettreAJourLabels(tempsLabel, etapesLabel, cellulesLabel, "BFS"); // Mettre à jour les stats
-                    updateComparaison(comparaisonLabel); // Mettre à jour la comparaison
-                    return;
-                }
-
-                explorerVoisins(queue, visite, predecesseurs, x, y, directions); // Explorer les voisins
-            } else {
-                timeline.stop(); // Arrêter si plus rien à explorer
-            }
-        }));
-
-        timeline.play(); // Lancer l'animation
+    public Solver(Labyrinthe labyrinthe, EspaceTravail espace) {
+        this.labyrinthe = labyrinthe;
+        this.espace = espace;
     }
 
     /**
-     * Anime la résolution du labyrinthe avec l'algorithme DFS.
-     *
-     * @param delai           le délai entre chaque étape en millisecondes
-     * @param tempsLabel      le label pour afficher le temps d'exécution
-     * @param etapesLabel     le label pour afficher le nombre d'étapes
-     * @param cellulesLabel   le label pour afficher le nombre de cellules explorées
-     * @param comparaisonLabel le label pour afficher la comparaison BFS/DFS
+     * Résolution BFS ou DFS avancée d'une étape à chaque appel de {@link #avancer()}, pour une animation.
+     * Suit le même ordre de parcours que {@link #resoudreBFS(Labyrinthe)} et {@link #resoudreDFS(Labyrinthe)}
+     * et met à jour les mêmes statistiques ; le temps mesuré va de la création à l'arrivée.
      */
-    public void animerDFS(int delai, Label tempsLabel, Label etapesLabel, Label cellulesLabel, Label comparaisonLabel) {
-        renderer.reinitialiserAffichage(); // Réinitialiser l'affichage graphique
-
-        char[][] grid = labyrinthe.getGrid();
-        int startX = labyrinthe.getStartX();
-        int startY = labyrinthe.getStartY();
-        int endX = labyrinthe.getEndX();
-        int endY = labyrinthe.getEndY();
-
-        Stack<Integer[]> stack = new Stack<>(); // Pile pour DFS
-        Map<String, Integer[]> predecesseurs = new HashMap<>(); // Suivi des prédécesseurs
-        boolean[][] visite = new boolean[grid.length][grid[0].length];
-
-        stack.push(new Integer[]{startX, startY});
-        visite[startX][startY] = true;
-
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}; // Directions : haut, bas, gauche, droite
-
-        Timeline timeline = new Timeline();
-        timeline.setCycleCount(Timeline.INDEFINITE);
-
-        long startTime = System.currentTimeMillis();
-        nombreEtapesDFS = 0;
-        cellulesExploreesDFS = 1; // Compter la cellule de départ
-
-        timeline.getKeyFrames().add(new KeyFrame(Duration.millis(delai), event -> {
-            if (!stack.isEmpty()) {
-                Integer[] current = stack.pop(); // Récupérer la prochaine cellule
-                int x = current[0];
-                int y = current[1];
-
-                renderer.mettreAJourCase(x, y, "explore"); // Marquer comme explorée
-                nombreEtapesDFS++;
-
-                if (x == endX && y == endY) { // Si la sortie est atteinte
-                    timeline.stop();
-                    List<Integer[]> chemin = reconstruireChemin(predecesseurs, endX, endY);
-                    afficherChemin(chemin); // Afficher le chemin final
-                    jouerSon(); // Jouer le son de succès
-
-                    tempsExecutionDFS = System.currentTimeMillis() - startTime;
-                    mettreAJourLabels(tempsLabel, etapesLabel, cellulesLabel, "DFS"); // Mettre à jour les stats
-                    updateComparaison(comparaisonLabel); // Mettre à jour la comparaison
-                    return;
-                }
-
-                explorerVoisins(stack, visite, predecesseurs, x, y, directions); // Explorer les voisins
+    public final class Exploration {
+        private final boolean enLargeur; // true : BFS (file), false : DFS (pile)
+        private final char[][] grid; // Grille du labyrinthe
+        private final int largeur; // Largeur de la grille
+        private final int sortie; // Indice de la sortie
+        private final boolean[] visite; // Cases déjà mises en attente
+        private final int[] attente; // File (BFS) ou pile (DFS) des cases à traiter
+        private final int[] predecesseur; // Prédécesseur de chaque case visitée
+        private int tete, fin; // File : cases [tete, fin) ; pile : fin cases
+        private final long debut = System.currentTimeMillis(); // Instant de création
+        private int derniere = -1; // Dernière case explorée
+        private List<Integer[]> chemin; // Chemin trouvé, null tant que la sortie n'est pas atteinte
+
+        private Exploration(boolean enLargeur) {
+            this.enLargeur = enLargeur;
+            grid = labyrinthe.getGrid();
+            largeur = grid[0].length;
+            int cellules = grid.length * largeur;
+            visite = new boolean[cellules];
+            attente = new int[cellules];
+            predecesseur = new int[cellules];
+            sortie = labyrinthe.getEndX() * largeur + labyrinthe.getEndY();
+            int depart = labyrinthe.getStartX() * largeur + labyrinthe.getStartY();
+            attente[fin++] = depart;
+            visite[depart] = true;
+            predecesseur[depart] = -1;
+            progression.set(0);
+            if (enLargeur) {
+                nombreEtapesBFS = 0;
+                cellulesExploreesBFS = 1; // Compter la cellule de départ
             } else {
-                timeline.stop(); // Arrêter si plus rien à explorer
+                nombreEtapesDFS = 0;
+                cellulesExploreesDFS = 1;
             }
-        }));
+        }
 
-        timeline.play(); // Lancer l'animation
-    }
+        /**
+         * Explore la case suivante.
+         *
+         * @return true si une case a été explorée, false si l'exploration était déjà terminée
+         */
+        public boolean avancer() {
+            if (estTerminee()) return false;
+            int c = enLargeur ? attente[tete++] : attente[--fin];
+            derniere = c;
+            int x = c / largeur;
+            int y = c - x * largeur;
+            int etapes = enLargeur ? ++nombreEtapesBFS : ++nombreEtapesDFS;
+            progression.lazySet(etapes);
+
+            if (c == sortie) {
+                chemin = reconstruireChemin(predecesseur, sortie, largeur);
+                if (enLargeur) {
+                    tempsExecutionBFS = System.currentTimeMillis() - debut;
+                } else {
+                    tempsExecutionDFS = System.currentTimeMillis() - debut;
+                }
+                return true;
+            }
 
-    /**
-     * Explore les voisins d'une cellule et les ajoute à la collection (file ou pile).
-     *
-     * @param collection    la collection pour ajouter les voisins (Queue pour BFS, Stack pour DFS)
-     * @param visite        le tableau des cellules visitées
-     * @param predecesseurs la map des prédécesseurs pour reconstruire le chemin
-     * @param x             la coordonnée X actuelle
-     * @param y             la coordonnée Y actuelle
-     * @param directions    les directions possibles (haut, bas, gauche, droite)
-     */
-    private void explorerVoisins(Collection<Integer[]> collection, boolean[][] visite,
-                                 Map<String, Integer[]> predecesseurs, int x, int y, int[][] directions) {
-        char[][] grid = labyrinthe.getGrid();
-        for (int[] dir : directions) {
-            int nx = x + dir[0];
-            int ny = y + dir[1];
-            // Vérifier si le voisin est dans les limites, non visité et non un mur
-            if (nx >= 0 && nx < grid.length && ny >= 0 && ny < grid[0].length
-                    && !visite[nx][ny] && grid[nx][ny] != '#') {
-                visite[nx][ny] = true;
-                Integer[] next = new Integer[]{nx, ny};
-                collection.add(next);
-                predecesseurs.put(nx + "," + ny, new Integer[]{x, y}); // Enregistrer le prédécesseur
-                if (collection instanceof Queue) {
-                    cellulesExploreesBFS++; // Incrémenter pour BFS
+            for (int[] dir : DIRECTIONS) {
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                if (nx < 0 || nx >= grid.length || ny < 0 || ny >= largeur || grid[nx][ny] == '#') continue;
+                int v = nx * largeur + ny;
+                if (visite[v]) continue;
+                visite[v] = true;
+                predecesseur[v] = c;
+                attente[fin++] = v;
+                if (enLargeur) {
+                    cellulesExploreesBFS++;
                 } else {
-                    cellulesExploreesDFS++; // Incrémenter pour DFS
+                    cellulesExploreesDFS++;
                 }
             }
+            return true;
         }
-    }
 
-    /**
-     * Met à jour les labels avec les statistiques de l'algorithme spécifié.
-     *
-     * @param tempsLabel    le label pour le temps d'exécution
-     * @param etapesLabel   le label pour le nombre d'étapes
-     * @param cellulesLabel le label pour le nombre de cellules explorées
-     * @param algo          l'algorithme utilisé ("BFS" ou "DFS")
-     */
-    private void mettreAJourLabels(Label tempsLabel, Label etapesLabel, Label cellulesLabel, String algo) {
-        if (algo.equals("BFS")) {
-            tempsLabel.setText("Temps BFS : " + tempsExecutionBFS + " ms");
-            etapesLabel.setText("Étapes BFS : " + nombreEtapesBFS);
-            cellulesLabel.setText("Cellules BFS : " + cellulesExploreesBFS);
-        } else {
-            tempsLabel.setText("Temps DFS : " + tempsExecutionDFS + " ms");
-            etapesLabel.setText("Étapes DFS : " + nombreEtapesDFS);
-            cellulesLabel.setText("Cellules DFS : " + cellulesExploreesDFS);
+        /**
+         * Indique si l'exploration est finie : sortie atteinte ou plus aucune case en attente.
+         *
+         * @return true si {@link #avancer()} n'a plus rien à faire
+         */
+        public boolean estTerminee() {
+            return chemin != null || (enLargeur ? tete == fin : fin == 0);
         }
+
+        /**
+         * Indique si la sortie a été atteinte.
+         *
+         * @return true si un chemin a été trouvé
+         */
+        public boolean sortieAtteinte() { return chemin != null; }
+
+        /**
+         * Retourne la ligne de la dernière case explorée.
+         *
+         * @return la coordonnée X, ou -1 avant la première étape
+         */
+        public int getLigne() { return derniere < 0 ? -1 : derniere / largeur; }
+
+        /**
+         * Retourne la colonne de la dernière case explorée.
+         *
+         * @return la coordonnée Y, ou -1 avant la première étape
+         */
+        public int getColonne() { return derniere < 0 ? -1 : derniere % largeur; }
+
+        /**
+         * Retourne le chemin trouvé.
+         *
+         * @return la liste des coordonnées du chemin, vide tant que la sortie n'est pas atteinte
+         */
+        public List<Integer[]> getChemin() { return chemin != null ? chemin : Collections.emptyList(); }
     }
 
     /**
-     * Affiche le chemin final sur le renderer.
+     * Commence une exploration BFS pas à pas du labyrinthe du solveur.
      *
-     * @param chemin la liste des coordonnées du chemin
+     * @return l'exploration, à faire avancer par l'appelant
      */
-    private void afficherChemin(List<Integer[]> chemin) {
-        for (Integer[] coord : chemin) {
-            renderer.mettreAJourCase(coord[0], coord[1], "chemin"); // Marquer chaque cellule du chemin
-        }
-    }
+    public Exploration explorerBFS() { return new Exploration(true); }
 
     /**
-     * Joue le son de succès si un MediaPlayer est disponible.
+     * Commence une exploration DFS pas à pas du labyrinthe du solveur.
+     *
+     * @return l'exploration, à faire avancer par l'appelant
      */
-    private void jouerSon() {
-        if (mediaPlayer != null) {
-            mediaPlayer.stop(); // Arrêter le son actuel s'il joue
-            mediaPlayer.play(); // Jouer le son de succès
-        }
-    }
+    public Exploration explorerDFS() { return new Exploration(false); }
 
     /**
      * Résout le labyrinthe avec l'algorithme BFS sans animation.
+     * Les cases sont manipulées par indice ({@code ligne * largeur + colonne}) dans l'espace de travail
+     * du solveur : une fois cet espace dimensionné, une résolution n'alloue plus que le chemin renvoyé.
      *
      * @param labyrinthe le labyrinthe à résoudre
      * @return la liste des coordonnées du chemin trouvé, ou une liste vide si aucun chemin
      */
     public List<Integer[]> resoudreBFS(Labyrinthe labyrinthe) {
-        cellulesExploreesBFS = 0;
-        char[][] grid = labyrinthe.getGrid();
-        int startX = labyrinthe.getStartX();
-        int startY = labyrinthe.getStartY();
-        int endX = labyrinthe.getEndX();
-        int endY = labyrinthe.getEndY();
-
-        Queue<Integer[]> queue = new LinkedList<>();
-        Map<String, Integer[]> predecesseurs = new HashMap<>();
-        boolean[][] visite = new boolean[grid.length][grid[0].length];
-
-        queue.add(new Integer[]{startX, startY});
-        visite[startX][startY] = true;
-        cellulesExploreesBFS++;
+        return resoudreBFS(labyrinthe, null, null);
+    }
 
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+    /**
+     * Résout avec BFS en signalant chaque case retirée à une trace et à un flux, s'ils sont fournis.
+     * Passés en paramètres plutôt que conservés par le solveur, ils ne peuvent pas recevoir
+     * les cases d'une autre résolution.
+     */
+    private List<Integer[]> resoudreBFS(Labyrinthe labyrinthe, TraceExploration trace, FluxExploration flux) {
+        char[][] grid = labyrinthe.getGrid();
+        int hauteur = grid.length;
+        int largeur = grid[0].length;
+        int depart = labyrinthe.getStartX() * largeur + labyrinthe.getStartY();
+        int sortie = labyrinthe.getEndX() * largeur + labyrinthe.getEndY();
+
+        espace.preparer(hauteur * largeur); // Efface les marques en O(1) par changement d'époque
+        int[] marques = espace.marques;
+        int[] file = espace.file;
+        int[] predecesseur = espace.predecesseur;
+        int epoque = espace.epoque;
+
+        int tete = 0, fin = 0; // Chaque case n'entre qu'une fois dans la file : pas de tampon circulaire
+        file[fin++] = depart;
+        marques[depart] = epoque;
+        predecesseur[depart] = -1;
+        cellulesExploreesBFS = 1;
 
         long startTime = System.currentTimeMillis();
         nombreEtapesBFS = 0;
+        progression.set(0);
 
-        while (!queue.isEmpty()) {
-            Integer[] current = queue.poll();
-            int x = current[0];
-            int y = current[1];
+        while (tete < fin) {
+            int c = file[tete++];
+            int x = c / largeur;
+            int y = c - x * largeur;
             nombreEtapesBFS++;
+            progression.lazySet(nombreEtapesBFS); // Publication sans barrière complète
+            if (trace != null) trace.ajouter(x, y); // Même ordre que l'animation : case marquée à son retrait
+            if (flux != null) flux.caseExploree(x, y, nombreEtapesBFS, cellulesExploreesBFS);
 
-            if (x == endX && y == endY) {
+            if (c == sortie) {
                 tempsExecutionBFS = System.currentTimeMillis() - startTime;
-                return reconstruireChemin(predecesseurs, endX, endY);
+                return reconstruireChemin(predecesseur, sortie, largeur);
             }
 
-            explorerVoisins(queue, visite, predecesseurs, x, y, directions);
+            for (int[] dir : DIRECTIONS) { // Haut, bas, gauche, droite
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                if (nx < 0 || nx >= hauteur || ny < 0 || ny >= largeur || grid[nx][ny] == '#') continue;
+                int v = nx * largeur + ny;
+                if (marques[v] == epoque) continue;
+                marques[v] = epoque;
+                predecesseur[v] = c;
+                file[fin++] = v;
+                cellulesExploreesBFS++;
+            }
         }
         tempsExecutionBFS = System.currentTimeMillis() - startTime;
         return Collections.emptyList(); // Aucun chemin trouvé
@@ -293,92 +309,242 @@ public class Solver {
 
     /**
      * Résout le labyrinthe avec l'algorithme DFS sans animation.
+     * Même ordre de parcours que la pile d'objets de l'animation, sur l'espace de travail du solveur.
      *
      * @param labyrinthe le labyrinthe à résoudre
      * @return la liste des coordonnées du chemin trouvé, ou une liste vide si aucun chemin
      */
     public List<Integer[]> resoudreDFS(Labyrinthe labyrinthe) {
-        cellulesExploreesDFS = 0;
-        char[][] grid = labyrinthe.getGrid();
-        int startX = labyrinthe.getStartX();
-        int startY = labyrinthe.getStartY();
-        int endX = labyrinthe.getEndX();
-        int endY = labyrinthe.getEndY();
-
-        Stack<Integer[]> stack = new Stack<>();
-        Map<String, Integer[]> predecesseurs = new HashMap<>();
-        boolean[][] visite = new boolean[grid.length][grid[0].length];
-
-        stack.push(new Integer[]{startX, startY});
-        visite[startX][startY] = true;
-        cellulesExploreesDFS++;
+        return resoudreDFS(labyrinthe, null, null);
+    }
 
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+    /**
+     * Résout avec DFS en signalant chaque case retirée à une trace et à un flux, s'ils sont fournis.
+     * Passés en paramètres plutôt que conservés par le solveur, ils ne peuvent pas recevoir
+     * les cases d'une autre résolution.
+     */
+    private List<Integer[]> resoudreDFS(Labyrinthe labyrinthe, TraceExploration trace, FluxExploration flux) {
+        char[][] grid = labyrinthe.getGrid();
+        int hauteur = grid.length;
+        int largeur = grid[0].length;
+        int depart = labyrinthe.getStartX() * largeur + labyrinthe.getStartY();
+        int sortie = labyrinthe.getEndX() * largeur + labyrinthe.getEndY();
+
+        espace.preparer(hauteur * largeur);
+        int[] marques = espace.marques;
+        int[] pile = espace.file; // Chaque case n'est empilée qu'une fois : même capacité que la file
+        int[] predecesseur = espace.predecesseur;
+        int epoque = espace.epoque;
+
+        int sommet = 0;
+        pile[sommet++] = depart;
+        marques[depart] = epoque;
+        predecesseur[depart] = -1;
+        cellulesExploreesDFS = 1;
 
         long startTime = System.currentTimeMillis();
         nombreEtapesDFS = 0;
+        progression.set(0);
 
-        while (!stack.isEmpty()) {
-            Integer[] current = stack.pop();
-            int x = current[0];
-            int y = current[1];
+        while (sommet > 0) {
+            int c = pile[--sommet];
+            int x = c / largeur;
+            int y = c - x * largeur;
             nombreEtapesDFS++;
+            progression.lazySet(nombreEtapesDFS);
+            if (trace != null) trace.ajouter(x, y); // Même ordre que l'animation : case marquée à son retrait
+            if (flux != null) flux.caseExploree(x, y, nombreEtapesDFS, cellulesExploreesDFS);
 
-            if (x == endX && y == endY) {
+            if (c == sortie) {
                 tempsExecutionDFS = System.currentTimeMillis() - startTime;
-                return reconstruireChemin(predecesseurs, endX, endY);
+                return reconstruireChemin(predecesseur, sortie, largeur);
             }
 
-            explorerVoisins(stack, visite, predecesseurs, x, y, directions);
+            for (int[] dir : DIRECTIONS) {
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                if (nx < 0 || nx >= hauteur || ny < 0 || ny >= largeur || grid[nx][ny] == '#') continue;
+                int v = nx * largeur + ny;
+                if (marques[v] == epoque) continue;
+                marques[v] = epoque;
+                predecesseur[v] = c;
+                pile[sommet++] = v;
+                cellulesExploreesDFS++;
+            }
         }
         tempsExecutionDFS = System.currentTimeMillis() - startTime;
         return Collections.emptyList(); // Aucun chemin trouvé
     }
 
     /**
-     * Reconstruit le chemin à partir des prédécesseurs, de la sortie au départ.
+     * Résout le labyrinthe avec BFS en enregistrant l'ordre d'exploration, pour un rendu hors écran.
      *
-     * @param predecesseurs la map des prédécesseurs
-     * @param endX          la coordonnée X de la sortie
-     * @param endY          la coordonnée Y de la sortie
-     * @return la liste des coordonnées du chemin
+     * @param labyrinthe le labyrinthe à résoudre
+     * @return la trace : cases explorées dans l'ordre de l'animation, puis chemin trouvé
      */
-    private List<Integer[]> reconstruireChemin(Map<String, Integer[]> predecesseurs, int endX, int endY) {
-        List<Integer[]> chemin = new ArrayList<>();
-        Integer[] current = new Integer[]{endX, endY};
-        chemin.add(current);
+    public TraceExploration enregistrerBFS(Labyrinthe labyrinthe) {
+        TraceExploration trace = new TraceExploration(labyrinthe);
+        trace.terminer(resoudreBFS(labyrinthe, trace, null));
+        return trace;
+    }
+
+    /**
+     * Résout le labyrinthe avec DFS en enregistrant l'ordre d'exploration, pour un rendu hors écran.
+     *
+     * @param labyrinthe le labyrinthe à résoudre
+     * @return la trace : cases explorées dans l'ordre de l'animation, puis chemin trouvé
+     */
+    public TraceExploration enregistrerDFS(Labyrinthe labyrinthe) {
+        TraceExploration trace = new TraceExploration(labyrinthe);
+        trace.terminer(resoudreDFS(labyrinthe, trace, null));
+        return trace;
+    }
 
-        while (predecesseurs.containsKey(current[0] + "," + current[1])) {
-            current = predecesseurs.get(current[0] + "," + current[1]);
-            chemin.add(current); // Ajouter chaque étape du chemin
+    /**
+     * Résout le labyrinthe avec BFS en publiant l'exploration aux abonnés d'un flux, puis termine le flux.
+     * La résolution n'attend jamais les abonnés : un abonné lent reçoit les cases regroupées.
+     *
+     * @param labyrinthe le labyrinthe à résoudre
+     * @param flux       le flux à alimenter, créé pour ce labyrinthe
+     * @return la liste des coordonnées du chemin trouvé, ou une liste vide si aucun chemin
+     */
+    public List<Integer[]> publierBFS(Labyrinthe labyrinthe, FluxExploration flux) {
+        try {
+            List<Integer[]> chemin = resoudreBFS(labyrinthe, null, flux);
+            flux.terminer(chemin, nombreEtapesBFS, cellulesExploreesBFS, tempsExecutionBFS);
+            return chemin;
+        } catch (RuntimeException | OutOfMemoryError e) {
+            flux.echouer(e); // Les abonnés ne restent pas en attente d'une fin qui ne viendra pas
+            throw e;
         }
-        Collections.reverse(chemin); // Inverser pour obtenir départ -> sortie
-        return chemin;
     }
 
     /**
-     * Met à jour le label de comparaison entre BFS et DFS.
+     * Résout le labyrinthe avec DFS en publiant l'exploration aux abonnés d'un flux, puis termine le flux.
      *
-     * @param comparaisonLabel le label à mettre à jour
+     * @param labyrinthe le labyrinthe à résoudre
+     * @param flux       le flux à alimenter, créé pour ce labyrinthe
+     * @return la liste des coordonnées du chemin trouvé, ou une liste vide si aucun chemin
      */
-    private void updateComparaison(Label comparaisonLabel) {
-        if (tempsExecutionBFS > 0 && tempsExecutionDFS > 0) {
-            String comparaison;
-            if (tempsExecutionBFS < tempsExecutionDFS) {
-                comparaison = "BFS plus rapide (" + tempsExecutionBFS + " ms vs " + tempsExecutionDFS + " ms)";
-            } else if (tempsExecutionBFS > tempsExecutionDFS) {
-                comparaison = "DFS plus rapide (" + tempsExecutionDFS + " ms vs " + tempsExecutionBFS + " ms)";
-            } else {
-                comparaison = "BFS et DFS égaux (" + tempsExecutionBFS + " ms)";
+    public List<Integer[]> publierDFS(Labyrinthe labyrinthe, FluxExploration flux) {
+        try {
+            List<Integer[]> chemin = resoudreDFS(labyrinthe, null, flux);
+            flux.terminer(chemin, nombreEtapesDFS, cellulesExploreesDFS, tempsExecutionDFS);
+            return chemin;
+        } catch (RuntimeException | OutOfMemoryError e) {
+            flux.echouer(e); // Les abonnés ne restent pas en attente d'une fin qui ne viendra pas
+            throw e;
+        }
+    }
+
+    /**
+     * Résout le labyrinthe pondéré avec l'algorithme de Dijkstra sans animation.
+     * Les coûts étant de petits entiers (1 à 9), la file de priorité est une file à seaux circulaire
+     * (algorithme de Dial) : chaque insertion et extraction coûte O(1), sans comparaisons.
+     *
+     * @param labyrinthe le labyrinthe à résoudre
+     * @return la liste des coordonnées du chemin de coût minimal, ou une liste vide si aucun chemin
+     */
+    public List<Integer[]> resoudreDijkstra(Labyrinthe labyrinthe) {
+        char[][] grid = labyrinthe.getGrid();
+        int hauteur = grid.length;
+        int largeur = grid[0].length;
+        int depart = labyrinthe.getStartX() * largeur + labyrinthe.getStartY();
+        int sortie = labyrinthe.getEndX() * largeur + labyrinthe.getEndY();
+
+        int[] distance = new int[hauteur * largeur];
+        int[] predecesseur = new int[hauteur * largeur];
+        boolean[] traitee = new boolean[hauteur * largeur];
+        Arrays.fill(distance, Integer.MAX_VALUE);
+
+        // Seaux indexés par distance modulo (coût max + 1) : toutes les distances en attente y tiennent
+        int nombreSeaux = labyrinthe.getPoidsMax() + 1;
+        int[][] seaux = new int[nombreSeaux][16];
+        int[] tailleSeau = new int[nombreSeaux];
+        int enAttente = 0;
+
+        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+        long startTime = System.currentTimeMillis();
+        nombreEtapesDijkstra = 0;
+        progression.set(0);
+        cellulesExploreesDijkstra = 1; // Compter la cellule de départ
+        distance[depart] = 0;
+        predecesseur[depart] = -1;
+        seaux[0][tailleSeau[0]++] = depart;
+        enAttente++;
+
+        for (int d = 0; enAttente > 0; d++) {
+            int s = d % nombreSeaux;
+            while (tailleSeau[s] > 0) {
+                int c = seaux[s][--tailleSeau[s]];
+                enAttente--;
+                if (traitee[c] || distance[c] != d) continue; // Entrée périmée
+                traitee[c] = true;
+                nombreEtapesDijkstra++;
+                progression.lazySet(nombreEtapesDijkstra);
+                if (c == sortie) {
+                    tempsExecutionDijkstra = System.currentTimeMillis() - startTime;
+                    return reconstruireChemin(predecesseur, sortie, largeur);
+                }
+                int x = c / largeur;
+                int y = c % largeur;
+                for (int[] dir : directions) {
+                    int nx = x + dir[0];
+                    int ny = y + dir[1];
+                    if (nx < 0 || nx >= hauteur || ny < 0 || ny >= largeur || grid[nx][ny] == '#') continue;
+                    int v = nx * largeur + ny;
+                    int nd = d + labyrinthe.getPoids(nx, ny);
+                    if (nd < distance[v]) {
+                        if (distance[v] == Integer.MAX_VALUE) cellulesExploreesDijkstra++;
+                        distance[v] = nd;
+                        predecesseur[v] = c;
+                        int cible = nd % nombreSeaux;
+                        if (tailleSeau[cible] == seaux[cible].length) {
+                            seaux[cible] = Arrays.copyOf(seaux[cible], tailleSeau[cible] * 2);
+                        }
+                        seaux[cible][tailleSeau[cible]++] = v;
+                        enAttente++;
+                    }
+                }
             }
-            comparaisonLabel.setText("Comparaison : " + comparaison);
-        } else if (tempsExecutionBFS > 0) {
-            comparaisonLabel.setText("Comparaison : BFS " + tempsExecutionBFS + " ms (DFS non exécuté)");
-        } else if (tempsExecutionDFS > 0) {
-            comparaisonLabel.setText("Comparaison : DFS " + tempsExecutionDFS + " ms (BFS non exécuté)");
         }
+        tempsExecutionDijkstra = System.currentTimeMillis() - startTime;
+        return Collections.emptyList(); // Aucun chemin trouvé
+    }
+
+    /**
+     * Reconstruit le chemin à partir d'un tableau de prédécesseurs indexé par case.
+     *
+     * @param predecesseur le prédécesseur de chaque case (-1 pour le départ)
+     * @param sortie       l'indice de la case de sortie
+     * @param largeur      la largeur de la grille
+     * @return la liste des coordonnées du chemin, du départ à la sortie
+     */
+    private List<Integer[]> reconstruireChemin(int[] predecesseur, int sortie, int largeur) {
+        List<Integer[]> chemin = new ArrayList<>();
+        for (int c = sortie; c != -1; c = predecesseur[c]) {
+            chemin.add(new Integer[]{c / largeur, c % largeur});
+        }
+        Collections.reverse(chemin); // Inverser pour obtenir départ -> sortie
+        return chemin;
     }
 
+    /**
+     * Retourne le nombre d'étapes de la résolution en cours (ou de la dernière), pour suivre sa progression
+     * depuis un autre thread.
+     *
+     * @return le nombre d'étapes effectuées
+     */
+    public int getProgression() { return progression.get(); }
+
+    /**
+     * Retourne le labyrinthe du solveur.
+     *
+     * @return le labyrinthe à résoudre
+     */
+    public Labyrinthe getLabyrinthe() { return labyrinthe; }
+
     /**
      * Retourne le temps d'exécution de BFS.
      *
@@ -420,4 +586,25 @@ public class Solver {
      * @return le nombre de cellules
      */
     public int getCellulesExploreesDFS() { return cellulesExploreesDFS; }
+
+    /**
+     * Retourne le temps d'exécution de Dijkstra.
+     *
+     * @return le temps en millisecondes
+     */
+    public long getTempsExecutionDijkstra() { return tempsExecutionDijkstra; }
+
+    /**
+     * Retourne le nombre de cases définitivement traitées par Dijkstra.
+     *
+     * @return le nombre d'étapes
+     */
+    public int getNombreEtapesDijkstra() { return nombreEtapesDijkstra; }
+
+    /**
+     * Retourne le nombre de cellules atteintes par Dijkstra.
+     *
+     * @return le nombre de cellules
+     */
+    public int getCellulesExploreesDijkstra() { return cellulesExploreesDijkstra; }
 }
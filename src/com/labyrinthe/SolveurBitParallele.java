@@ -0,0 +1,203 @@
+package com.labyrinthe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BFS bit-parallèle : la frontière, l'ensemble des cases visitées et le masque des cases ouvertes
+ * sont des ensembles de bits rangés ligne par ligne dans des mots de 64 bits. Chaque niveau du BFS
+ * décale les mots de la frontière vers la gauche, la droite, le haut et le bas, puis les masque par
+ * les cases ouvertes et non visitées : 64 cases sont traitées par opération. Seuls les mots actifs
+ * de la frontière sont parcourus, ce qui reste efficace dans les couloirs étroits des labyrinthes.
+ * Le niveau de chaque case est mémorisé modulo 3 (deux plans de bits), ce qui suffit à remonter
+ * le chemin depuis la sortie.
+ */
+public class SolveurBitParallele {
+    private final Labyrinthe labyrinthe; // Labyrinthe à résoudre
+    private final int hauteur; // Nombre de lignes
+    private final int largeur; // Nombre de colonnes
+    private final int motsParLigne; // Nombre de mots de 64 bits par ligne
+    private final long[] ouvert; // Masque des cases praticables
+
+    private int distance = -1; // Longueur du dernier chemin trouvé (-1 si aucun)
+    private long motsTraites; // Nombre de mots de 64 bits traités lors de la dernière résolution
+    private final AtomicLong cellulesExplorees = new AtomicLong(); // Cases atteintes lors de la dernière résolution, lisibles depuis un autre thread
+
+    /**
+     * Construit le solveur et le masque des cases ouvertes, réutilisable pour plusieurs résolutions.
+     *
+     * @param labyrinthe le labyrinthe à résoudre
+     */
+    public SolveurBitParallele(Labyrinthe labyrinthe) {
+        this.labyrinthe = labyrinthe;
+        char[][] grid = labyrinthe.getGrid();
+        hauteur = grid.length;
+        largeur = grid[0].length;
+        motsParLigne = (largeur + 63) >>> 6;
+        ouvert = new long[hauteur * motsParLigne];
+        for (int i = 0; i < hauteur; i++) {
+            for (int j = 0; j < largeur; j++) {
+                if (grid[i][j] != '#') {
+                    ouvert[i * motsParLigne + (j >>> 6)] |= 1L << j; // Décalage implicitement modulo 64
+                }
+            }
+        }
+    }
+
+    /**
+     * Résout le labyrinthe du départ (S) à la sortie (E).
+     * La distance est identique à celle de {@link Solver#resoudreBFS(Labyrinthe)} ; le chemin l'est aussi
+     * lorsque le plus court chemin est unique, ce qui est toujours le cas dans un labyrinthe parfait.
+     *
+     * @return la liste des coordonnées du chemin trouvé, ou une liste vide si aucun chemin
+     */
+    public List<Integer[]> resoudre() {
+        int sx = labyrinthe.getStartX(), sy = labyrinthe.getStartY();
+        int ex = labyrinthe.getEndX(), ey = labyrinthe.getEndY();
+        int mots = ouvert.length;
+        long[] visite = new long[mots];
+        long[] frontiere = new long[mots];
+        long[] suivante = new long[mots];
+        long[] planBas = new long[mots]; // Bit 0 du niveau modulo 3
+        long[] planHaut = new long[mots]; // Bit 1 du niveau modulo 3
+        int[] actifs = new int[16]; // Mots non nuls de la frontière
+        int[] touches = new int[16]; // Mots candidats pour la frontière suivante
+        boolean[] dejaTouche = new boolean[mots];
+
+        distance = -1;
+        motsTraites = 0;
+        long atteintes = 1; // Compter la cellule de départ
+        cellulesExplorees.set(atteintes);
+        int motDepart = sx * motsParLigne + (sy >>> 6);
+        int motSortie = ex * motsParLigne + (ey >>> 6);
+        long bitSortie = 1L << ey;
+        frontiere[motDepart] = 1L << sy;
+        visite[motDepart] = 1L << sy;
+        actifs[0] = motDepart;
+        int nombreActifs = 1;
+
+        if (motDepart == motSortie && (frontiere[motDepart] & bitSortie) != 0) {
+            distance = 0;
+        }
+        for (int niveau = 1; distance < 0 && nombreActifs > 0; niveau++) {
+            // Propagation des bits de chaque mot actif vers ses voisins
+            int nombreTouches = 0;
+            for (int n = 0; n < nombreActifs; n++) {
+                int a = actifs[n];
+                long f = frontiere[a];
+                frontiere[a] = 0;
+                int k = a % motsParLigne;
+                if (nombreTouches + 5 > touches.length) touches = Arrays.copyOf(touches, touches.length * 2);
+                nombreTouches = toucher(suivante, dejaTouche, touches, nombreTouches, a, (f << 1) | (f >>> 1));
+                if (k + 1 < motsParLigne && f < 0) { // Bit 63 : passage au mot de droite
+                    nombreTouches = toucher(suivante, dejaTouche, touches, nombreTouches, a + 1, 1L);
+                }
+                if (k > 0 && (f & 1L) != 0) { // Bit 0 : passage au mot de gauche
+                    nombreTouches = toucher(suivante, dejaTouche, touches, nombreTouches, a - 1, 1L << 63);
+                }
+                if (a >= motsParLigne) {
+                    nombreTouches = toucher(suivante, dejaTouche, touches, nombreTouches, a - motsParLigne, f);
+                }
+                if (a + motsParLigne < mots) {
+                    nombreTouches = toucher(suivante, dejaTouche, touches, nombreTouches, a + motsParLigne, f);
+                }
+            }
+            motsTraites += nombreActifs;
+
+            // Masquage par les cases ouvertes non visitées et enregistrement du niveau modulo 3
+            int reste = niveau % 3;
+            nombreActifs = 0;
+            if (actifs.length < nombreTouches) actifs = new int[touches.length];
+            for (int n = 0; n < nombreTouches; n++) {
+                int t = touches[n];
+                dejaTouche[t] = false;
+                long nouveaux = suivante[t] & ouvert[t] & ~visite[t];
+                suivante[t] = 0;
+                if (nouveaux == 0) continue;
+                visite[t] |= nouveaux;
+                if ((reste & 1) != 0) planBas[t] |= nouveaux;
+                if ((reste & 2) != 0) planHaut[t] |= nouveaux;
+                frontiere[t] = nouveaux;
+                actifs[nombreActifs++] = t;
+                atteintes += Long.bitCount(nouveaux);
+                if (t == motSortie && (nouveaux & bitSortie) != 0) {
+                    distance = niveau;
+                }
+            }
+            motsTraites += nombreTouches;
+            cellulesExplorees.lazySet(atteintes); // Publiée une fois par niveau, sans barrière complète
+        }
+        if (distance < 0) {
+            return Collections.emptyList(); // Aucun chemin trouvé
+        }
+        return reconstruireChemin(visite, planBas, planHaut, ex, ey);
+    }
+
+    /**
+     * Ajoute des bits candidats à un mot de la frontière suivante, en le retenant une seule fois.
+     */
+    private static int toucher(long[] suivante, boolean[] dejaTouche, int[] touches, int nombre, int mot, long bits) {
+        suivante[mot] |= bits;
+        if (!dejaTouche[mot]) {
+            dejaTouche[mot] = true;
+            touches[nombre++] = mot;
+        }
+        return nombre;
+    }
+
+    /**
+     * Remonte de la sortie au départ en choisissant à chaque pas un voisin visité au niveau précédent,
+     * dans l'ordre des directions du BFS classique (haut, bas, gauche, droite).
+     */
+    private List<Integer[]> reconstruireChemin(long[] visite, long[] planBas, long[] planHaut, int ex, int ey) {
+        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+        Integer[][] etapes = new Integer[distance + 1][];
+        int x = ex, y = ey;
+        etapes[distance] = new Integer[]{x, y};
+        for (int niveau = distance - 1; niveau >= 0; niveau--) {
+            int reste = niveau % 3;
+            for (int[] dir : directions) {
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                if (nx < 0 || nx >= hauteur || ny < 0 || ny >= largeur) continue;
+                int mot = nx * motsParLigne + (ny >>> 6);
+                long bit = 1L << ny;
+                if ((visite[mot] & bit) == 0) continue;
+                int resteVoisin = ((planBas[mot] & bit) != 0 ? 1 : 0) | ((planHaut[mot] & bit) != 0 ? 2 : 0);
+                if (resteVoisin == reste) {
+                    x = nx;
+                    y = ny;
+                    break;
+                }
+            }
+            etapes[niveau] = new Integer[]{x, y};
+        }
+        List<Integer[]> chemin = new ArrayList<>(etapes.length);
+        Collections.addAll(chemin, etapes);
+        return chemin;
+    }
+
+    /**
+     * Retourne la longueur du dernier chemin trouvé.
+     *
+     * @return le nombre de déplacements, ou -1 si aucun chemin
+     */
+    public int getDistance() { return distance; }
+
+    /**
+     * Retourne le nombre de mots de 64 bits traités lors de la dernière résolution.
+     *
+     * @return le nombre d'opérations sur des mots
+     */
+    public long getMotsTraites() { return motsTraites; }
+
+    /**
+     * Retourne le nombre de cases atteintes lors de la dernière résolution.
+     *
+     * @return le nombre de cellules
+     */
+    public long getCellulesExplorees() { return cellulesExplorees.get(); }
+}
@@ -0,0 +1,193 @@
+package com.labyrinthe;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Résolution BFS d'un {@link LabyrintheHorsTas} dont toutes les structures de travail sont hors
+ * du tas : les marques de visite et les prédécesseurs tiennent dans 4 bits par case (direction
+ * d'arrivée), la frontière est une file circulaire de longs et le chemin trouvé est conservé
+ * sous forme d'une direction par pas, tous dans des fichiers temporaires projetés en mémoire.
+ * Le chemin est ensuite parcouru pas à pas sans jamais être matérialisé dans le tas.
+ */
+public class SolveurHorsTas implements Closeable {
+    private static final long CAPACITE_FRONTIERE_MAX = 1L << 27; // 1 Go de frontière au plus
+    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}; // Haut, bas, gauche, droite
+    private static final int DEPART = 5; // Marque de la case de départ (les directions valent 1 à 4)
+
+    private long cellulesExplorees; // Nombre de cellules atteintes
+    private long nombreEtapes; // Nombre de cellules retirées de la frontière
+    private long tempsExecution; // Temps d'exécution en millisecondes
+    private long distance = -1; // Longueur du dernier chemin trouvé (-1 si aucun)
+    private int departX, departY; // Départ du dernier chemin trouvé
+    private TableauHorsTas pas; // Directions du dernier chemin, de la sortie vers le départ
+
+    /**
+     * Résout le labyrinthe avec l'algorithme BFS, avec un parcours identique à {@link Solver#resoudreBFS(Labyrinthe)}.
+     *
+     * @param labyrinthe le labyrinthe à résoudre
+     * @return la longueur du chemin trouvé, ou -1 si aucun chemin
+     * @throws IOException si les fichiers de travail ne peuvent pas être créés
+     * @throws IllegalStateException si la frontière dépasse sa capacité maximale
+     */
+    public long resoudreBFS(LabyrintheHorsTas labyrinthe) throws IOException {
+        int hauteur = labyrinthe.getHeight();
+        int largeur = labyrinthe.getWidth();
+        long nombreCases = (long) hauteur * largeur;
+        long capacite = Math.min(nombreCases, CAPACITE_FRONTIERE_MAX);
+        long depart = (long) labyrinthe.getStartX() * largeur + labyrinthe.getStartY();
+        long sortie = (long) labyrinthe.getEndX() * largeur + labyrinthe.getEndY();
+
+        close(); // Libérer le chemin précédent
+        long startTime = System.currentTimeMillis();
+        cellulesExplorees = 1; // Compter la cellule de départ
+        nombreEtapes = 0;
+        departX = labyrinthe.getStartX();
+        departY = labyrinthe.getStartY();
+
+        try (TableauHorsTas arrivees = TableauHorsTas.temporaire((nombreCases + 1) / 2);
+             TableauHorsTas frontiere = TableauHorsTas.temporaire(capacite * 8)) {
+            long tete = 0, queue = 0; // Positions (non bornées) de lecture et d'écriture dans la file circulaire
+            frontiere.putLong(0, depart);
+            queue++;
+            arrivees.setQuartet(depart, DEPART);
+
+            while (tete < queue) {
+                long courant = frontiere.getLong((tete++ % capacite) * 8);
+                nombreEtapes++;
+                if (courant == sortie) {
+                    enregistrerChemin(arrivees, sortie, largeur);
+                    break;
+                }
+                int x = (int) (courant / largeur);
+                int y = (int) (courant % largeur);
+                for (int d = 0; d < DIRECTIONS.length; d++) {
+                    int nx = x + DIRECTIONS[d][0];
+                    int ny = y + DIRECTIONS[d][1];
+                    if (nx < 0 || nx >= hauteur || ny < 0 || ny >= largeur) continue;
+                    long voisin = (long) nx * largeur + ny;
+                    if (arrivees.getQuartet(voisin) != 0 || !labyrinthe.estOuverte(voisin)) continue;
+                    if (queue - tete >= capacite) {
+                        throw new IllegalStateException("Frontière BFS trop grande (" + capacite + " cases).");
+                    }
+                    arrivees.setQuartet(voisin, d + 1); // Retenir la direction d'arrivée
+                    frontiere.putLong((queue++ % capacite) * 8, voisin);
+                    cellulesExplorees++;
+                }
+            }
+        }
+        tempsExecution = System.currentTimeMillis() - startTime;
+        return distance;
+    }
+
+    /**
+     * Remonte les directions d'arrivée depuis la sortie et les copie, une par pas, hors du tas.
+     */
+    private void enregistrerChemin(TableauHorsTas arrivees, long sortie, int largeur) throws IOException {
+        pas = TableauHorsTas.temporaire((cellulesExplorees + 1) / 2); // Borne supérieure de la longueur
+        long c = sortie;
+        long n = 0;
+        int marque;
+        while ((marque = arrivees.getQuartet(c)) != DEPART) {
+            pas.setQuartet(n++, marque);
+            int[] dir = DIRECTIONS[marque - 1];
+            c -= (long) dir[0] * largeur + dir[1]; // Revenir d'un pas en sens inverse
+        }
+        distance = n;
+    }
+
+    /**
+     * Parcourt le dernier chemin trouvé, du départ vers la sortie, sans l'allouer dans le tas.
+     *
+     * @param visiteur le traitement appliqué à chaque case du chemin
+     */
+    public void parcourirChemin(VisiteurCase visiteur) {
+        if (distance < 0) {
+            return; // Aucun chemin
+        }
+        int x = departX;
+        int y = departY;
+        visiteur.visiter(x, y);
+        for (long n = distance - 1; n >= 0; n--) {
+            int[] dir = DIRECTIONS[pas.getQuartet(n) - 1];
+            x += dir[0];
+            y += dir[1];
+            visiteur.visiter(x, y);
+        }
+    }
+
+    /**
+     * Retourne le dernier chemin trouvé sous forme de liste, à réserver aux chemins de taille raisonnable.
+     *
+     * @return la liste des coordonnées du chemin, ou une liste vide si aucun chemin
+     */
+    public List<Integer[]> getChemin() {
+        List<Integer[]> chemin = new ArrayList<>();
+        parcourirChemin((x, y) -> chemin.add(new Integer[]{x, y}));
+        return chemin;
+    }
+
+    /**
+     * Retourne le dernier chemin trouvé sous forme compacte (2 bits par pas dans le tas).
+     *
+     * @return le chemin compact, vide si aucun chemin
+     * @throws IllegalStateException si le chemin dépasse la capacité d'un chemin compact
+     */
+    public CheminCompact getCheminCompact() {
+        if (distance < 0) {
+            return CheminCompact.vide();
+        }
+        if (distance >= Integer.MAX_VALUE) {
+            throw new IllegalStateException("Chemin trop long pour un chemin compact (" + distance + " pas).");
+        }
+        CheminCompact chemin = new CheminCompact(departX, departY, (int) distance);
+        for (long n = distance - 1; n >= 0; n--) {
+            chemin.ajouter(pas.getQuartet(n) - 1); // Les quartets valent direction + 1
+        }
+        return chemin;
+    }
+
+    /**
+     * Retourne le nombre de cellules atteintes lors de la dernière résolution.
+     *
+     * @return le nombre de cellules
+     */
+    public long getCellulesExplorees() { return cellulesExplorees; }
+
+    /**
+     * Retourne le nombre d'étapes de la dernière résolution.
+     *
+     * @return le nombre d'étapes
+     */
+    public long getNombreEtapes() { return nombreEtapes; }
+
+    /**
+     * Retourne le temps d'exécution de la dernière résolution.
+     *
+     * @return le temps en millisecondes
+     */
+    public long getTempsExecution() { return tempsExecution; }
+
+    /**
+     * Retourne la longueur du dernier chemin trouvé.
+     *
+     * @return le nombre de déplacements, ou -1 si aucun chemin
+     */
+    public long getDistance() { return distance; }
+
+    /**
+     * Libère le fichier temporaire du dernier chemin trouvé.
+     *
+     * @throws IOException si la suppression échoue
+     */
+    @Override
+    public void close() throws IOException {
+        distance = -1;
+        if (pas != null) {
+            pas.close();
+            pas = null;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.labyrinthe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Solveur incrémental du plus court chemin entre le départ (S) et la sortie (E), basé sur LPA*
+ * (Lifelong Planning A*). Après une modification de mur, seule la partie de la recherche
+ * touchée par le changement est réparée : le coût d'une nouvelle résolution dépend de la taille
+ * de la zone affectée et non de celle du labyrinthe.
+ */
+public class SolveurIncremental {
+    private static final int INFINI = Integer.MAX_VALUE / 4; // Distance inconnue (évite les débordements)
+
+    private final Labyrinthe labyrinthe; // Labyrinthe suivi, modifié via definirMur/basculerMur
+    private final char[][] grid; // Grille partagée avec le labyrinthe
+    private final int hauteur; // Nombre de lignes
+    private final int largeur; // Nombre de colonnes
+    private final int depart; // Indice de la case de départ
+    private final int sortie; // Indice de la case de sortie
+    private final int[] g; // Distance estimée depuis le départ
+    private final int[] rhs; // Distance déduite des voisins (lookahead)
+    private final TasIndexe file; // File de priorité des cases localement incohérentes
+
+    private int expansions; // Nombre de cases traitées lors du dernier calcul
+
+    /**
+     * Construit un solveur incrémental pour un labyrinthe.
+     * Le premier appel à {@link #calculerChemin()} effectue une recherche complète (équivalente à A*).
+     *
+     * @param labyrinthe le labyrinthe à résoudre
+     */
+    public SolveurIncremental(Labyrinthe labyrinthe) {
+        this.labyrinthe = labyrinthe;
+        this.grid = labyrinthe.getGrid();
+        this.hauteur = grid.length;
+        this.largeur = grid[0].length;
+        this.depart = labyrinthe.getStartX() * largeur + labyrinthe.getStartY();
+        this.sortie = labyrinthe.getEndX() * largeur + labyrinthe.getEndY();
+
+        g = new int[hauteur * largeur];
+        rhs = new int[hauteur * largeur];
+        Arrays.fill(g, INFINI);
+        Arrays.fill(rhs, INFINI);
+        file = new TasIndexe(hauteur * largeur);
+        rhs[depart] = 0;
+        file.inserer(depart, cle(depart));
+    }
+
+    /**
+     * Signale qu'une case a changé d'état (mur placé ou retiré) dans le labyrinthe.
+     * Seules la case et ses voisines sont remises en file ; la réparation a lieu au prochain calcul.
+     *
+     * @param x la coordonnée X de la case modifiée
+     * @param y la coordonnée Y de la case modifiée
+     */
+    public void signalerModification(int x, int y) {
+        int c = x * largeur + y;
+        mettreAJourCase(c);
+        if (x > 0) mettreAJourCase(c - largeur);
+        if (x < hauteur - 1) mettreAJourCase(c + largeur);
+        if (y > 0) mettreAJourCase(c - 1);
+        if (y < largeur - 1) mettreAJourCase(c + 1);
+    }
+
+    /**
+     * Bascule un mur dans le labyrinthe et signale aussitôt la modification au solveur.
+     *
+     * @param x la coordonnée X de la case
+     * @param y la coordonnée Y de la case
+     * @return true si la case est désormais un mur, false si c'est un passage
+     * @throws IllegalArgumentException si la case est hors de la grille ou correspond à S ou E
+     */
+    public boolean basculerMur(int x, int y) {
+        boolean mur = labyrinthe.basculerMur(x, y);
+        signalerModification(x, y);
+        return mur;
+    }
+
+    /**
+     * Répare la recherche si nécessaire et retourne le plus court chemin courant.
+     *
+     * @return la liste des coordonnées du chemin trouvé, ou une liste vide si aucun chemin
+     */
+    public List<Integer[]> calculerChemin() {
+        calculerPlusCourtChemin();
+        if (g[sortie] >= INFINI) {
+            return Collections.emptyList(); // Aucun chemin trouvé
+        }
+
+        // Remonter de la sortie vers le départ en suivant les distances décroissantes
+        List<Integer[]> chemin = new ArrayList<>(g[sortie] + 1);
+        int c = sortie;
+        chemin.add(new Integer[]{c / largeur, c % largeur});
+        while (c != depart) {
+            c = meilleurPredecesseur(c);
+            chemin.add(new Integer[]{c / largeur, c % largeur});
+        }
+        Collections.reverse(chemin); // Inverser pour obtenir départ -> sortie
+        return chemin;
+    }
+
+    /**
+     * Retourne la longueur du plus court chemin courant, après réparation si nécessaire.
+     *
+     * @return le nombre de déplacements, ou -1 si la sortie est inaccessible
+     */
+    public int distance() {
+        calculerPlusCourtChemin();
+        return g[sortie] >= INFINI ? -1 : g[sortie];
+    }
+
+    /**
+     * Retourne le nombre de cases traitées lors du dernier calcul (mesure du travail de réparation).
+     *
+     * @return le nombre d'expansions
+     */
+    public int getExpansions() { return expansions; }
+
+    /**
+     * Boucle principale de LPA* : traite les cases incohérentes jusqu'à ce que la sortie soit stable.
+     */
+    private void calculerPlusCourtChemin() {
+        expansions = 0;
+        while (!file.estVide() && (file.prioriteMin() < cle(sortie) || rhs[sortie] != g[sortie])) {
+            int u = file.extraire();
+            expansions++;
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u]; // Case surcohérente : sa distance diminue
+                mettreAJourVoisins(u);
+            } else {
+                g[u] = INFINI; // Case sous-cohérente : sa distance doit être recalculée
+                mettreAJourCase(u);
+                mettreAJourVoisins(u);
+            }
+        }
+    }
+
+    private void mettreAJourVoisins(int c) {
+        int x = c / largeur;
+        int y = c % largeur;
+        if (x > 0) mettreAJourCase(c - largeur);
+        if (x < hauteur - 1) mettreAJourCase(c + largeur);
+        if (y > 0) mettreAJourCase(c - 1);
+        if (y < largeur - 1) mettreAJourCase(c + 1);
+    }
+
+    /**
+     * Recalcule rhs d'une case à partir de ses voisins et met à jour sa présence dans la file.
+     */
+    private void mettreAJourCase(int c) {
+        if (c != depart) {
+            rhs[c] = estOuverte(c) ? distanceVoisins(c) : INFINI;
+        }
+        if (g[c] != rhs[c]) {
+            file.inserer(c, cle(c));
+        } else {
+            file.retirer(c);
+        }
+    }
+
+    /**
+     * Retourne 1 + la plus petite distance g parmi les voisins ouverts d'une case.
+     */
+    private int distanceVoisins(int c) {
+        int x = c / largeur;
+        int y = c % largeur;
+        int min = INFINI;
+        if (x > 0) min = Math.min(min, distanceSiOuverte(c - largeur));
+        if (x < hauteur - 1) min = Math.min(min, distanceSiOuverte(c + largeur));
+        if (y > 0) min = Math.min(min, distanceSiOuverte(c - 1));
+        if (y < largeur - 1) min = Math.min(min, distanceSiOuverte(c + 1));
+        return min >= INFINI ? INFINI : min + 1;
+    }
+
+    private int distanceSiOuverte(int c) {
+        return estOuverte(c) ? g[c] : INFINI;
+    }
+
+    /**
+     * Retourne le voisin ouvert de plus petite distance g (prédécesseur sur un plus court chemin).
+     */
+    private int meilleurPredecesseur(int c) {
+        int x = c / largeur;
+        int y = c % largeur;
+        int meilleur = -1;
+        int min = INFINI;
+        int[] voisins = {x > 0 ? c - largeur : -1, x < hauteur - 1 ? c + largeur : -1,
+                y > 0 ? c - 1 : -1, y < largeur - 1 ? c + 1 : -1};
+        for (int v : voisins) {
+            if (v >= 0 && estOuverte(v) && g[v] < min) {
+                min = g[v];
+                meilleur = v;
+            }
+        }
+        return meilleur;
+    }
+
+    private boolean estOuverte(int c) {
+        return grid[c / largeur][c % largeur] != '#';
+    }
+
+    /**
+     * Calcule la clé de priorité [min(g, rhs) + h ; min(g, rhs)] regroupée dans un long.
+     */
+    private long cle(int c) {
+        int m = Math.min(g[c], rhs[c]);
+        int h = Math.abs(c / largeur - sortie / largeur) + Math.abs(c % largeur - sortie % largeur);
+        return ((long) Math.min(m + h, INFINI) << 32) | m;
+    }
+}
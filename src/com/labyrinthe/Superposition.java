@@ -0,0 +1,139 @@
+package com.labyrinthe;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Calque de cases (chemin, cellules explorées...) affiché par-dessus un labyrinthe sans modifier sa grille.
+ * Les cases sont conservées dans une liste d'identifiants (x * largeur + y) doublée d'un ensemble de bits
+ * pour l'appartenance : l'ajout et le test coûtent O(1) et l'effacement O(taille du calque).
+ * Le labyrinthe reste ainsi inchangé et peut être partagé entre plusieurs résolutions simultanées,
+ * chacune disposant de ses propres calques. Un calque n'est pas prévu pour être modifié par plusieurs threads.
+ */
+public class Superposition {
+    /** Marque des cases d'un chemin. */
+    public static final char CHEMIN = '+';
+    /** Marque des cases explorées. */
+    public static final char EXPLORATION = '.';
+
+    private final int hauteur; // Nombre de lignes du labyrinthe
+    private final int largeur; // Nombre de colonnes du labyrinthe
+    private final char marque; // Caractère affiché pour les cases du calque
+    private final long[] membres; // Appartenance des cases, un bit par case
+    private int[] cellules = new int[16]; // Identifiants des cases, dans l'ordre d'ajout
+    private int taille; // Nombre de cases du calque
+
+    /**
+     * Crée un calque vide aux dimensions d'un labyrinthe.
+     *
+     * @param labyrinthe le labyrinthe recouvert
+     * @param marque     le caractère affiché pour les cases du calque ({@link #CHEMIN}, {@link #EXPLORATION}...)
+     */
+    public Superposition(Labyrinthe labyrinthe, char marque) {
+        this(labyrinthe.getHeight(), labyrinthe.getWidth(), marque);
+    }
+
+    /**
+     * Crée un calque vide.
+     *
+     * @param hauteur le nombre de lignes du labyrinthe
+     * @param largeur le nombre de colonnes du labyrinthe
+     * @param marque  le caractère affiché pour les cases du calque
+     */
+    public Superposition(int hauteur, int largeur, char marque) {
+        this.hauteur = hauteur;
+        this.largeur = largeur;
+        this.marque = marque;
+        this.membres = new long[(int) (((long) hauteur * largeur + 63) >>> 6)];
+    }
+
+    /**
+     * Ajoute une case au calque (sans effet si elle y est déjà).
+     *
+     * @param x la coordonnée X de la case
+     * @param y la coordonnée Y de la case
+     * @throws IllegalArgumentException si la case est hors du labyrinthe
+     */
+    public void ajouter(int x, int y) {
+        if (x < 0 || x >= hauteur || y < 0 || y >= largeur) {
+            throw new IllegalArgumentException("Case (" + x + ", " + y + ") hors du labyrinthe.");
+        }
+        int id = x * largeur + y;
+        long bit = 1L << id;
+        if ((membres[id >>> 6] & bit) != 0) {
+            return;
+        }
+        membres[id >>> 6] |= bit;
+        if (taille == cellules.length) {
+            cellules = Arrays.copyOf(cellules, taille * 2);
+        }
+        cellules[taille++] = id;
+    }
+
+    /**
+     * Ajoute toutes les cases d'un chemin au calque.
+     *
+     * @param chemin la liste des coordonnées du chemin
+     */
+    public void ajouterChemin(List<Integer[]> chemin) {
+        for (Integer[] coord : chemin) {
+            ajouter(coord[0], coord[1]);
+        }
+    }
+
+    /**
+     * Ajoute toutes les cases d'un chemin compact au calque.
+     *
+     * @param chemin le chemin compact
+     */
+    public void ajouterChemin(CheminCompact chemin) {
+        chemin.parcourir(this::ajouter);
+    }
+
+    /**
+     * Indique si une case appartient au calque.
+     *
+     * @param x la coordonnée X de la case
+     * @param y la coordonnée Y de la case
+     * @return true si la case est dans le calque
+     */
+    public boolean contient(int x, int y) {
+        int id = x * largeur + y;
+        return (membres[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * Parcourt les cases du calque dans l'ordre d'ajout.
+     *
+     * @param visiteur le traitement appliqué à chaque case
+     */
+    public void parcourir(VisiteurCase visiteur) {
+        for (int n = 0; n < taille; n++) {
+            visiteur.visiter(cellules[n] / largeur, cellules[n] % largeur);
+        }
+    }
+
+    /**
+     * Vide le calque en ne touchant que ses propres cases.
+     */
+    public void vider() {
+        for (int n = 0; n < taille; n++) {
+            membres[cellules[n] >>> 6] = 0; // Remettre à zéro le mot entier suffit : ses autres bits sont aussi des cases du calque
+        }
+        taille = 0;
+    }
+
+    /**
+     * Retourne le nombre de cases du calque.
+     *
+     * @return le nombre de cases
+     */
+    public int taille() { return taille; }
+
+    /**
+     * Retourne le caractère affiché pour les cases du calque.
+     *
+     * @return la marque
+     */
+    public char getMarque() { return marque; }
+}
@@ -0,0 +1,137 @@
+package com.labyrinthe;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Tableau d'octets de taille quelconque (au-delà de 2 Go) stocké hors du tas Java dans un fichier
+ * projeté en mémoire. Le fichier est découpé en segments de 1 Go projetés séparément ; la mise en
+ * cache et la pagination sont laissées au système d'exploitation. Un fichier neuf est creux et
+ * rempli de zéros.
+ */
+final class TableauHorsTas implements Closeable {
+    private static final int BITS_SEGMENT = 30; // Segments de 1 Go (multiple de 8 : un long ne chevauche jamais deux segments)
+    private static final long MASQUE_SEGMENT = (1L << BITS_SEGMENT) - 1;
+
+    private final Path fichier; // Fichier support
+    private final boolean temporaire; // Supprimer le fichier à la fermeture
+    private final FileChannel canal; // Canal ayant servi aux projections
+    private final MappedByteBuffer[] segments; // Projections successives du fichier
+    private final long taille; // Taille en octets
+
+    /**
+     * Projette un fichier en mémoire, en l'agrandissant si nécessaire.
+     *
+     * @param fichier    le fichier support
+     * @param taille     la taille du tableau en octets
+     * @param temporaire true pour supprimer le fichier à la fermeture
+     * @throws IOException si le fichier ne peut pas être créé ou projeté
+     */
+    TableauHorsTas(Path fichier, long taille, boolean temporaire) throws IOException {
+        this.fichier = fichier;
+        this.temporaire = temporaire;
+        this.taille = taille;
+        try (RandomAccessFile acces = new RandomAccessFile(fichier.toFile(), "rw")) {
+            if (acces.length() < taille) {
+                acces.setLength(taille); // Fichier creux : aucune écriture réelle sur le disque
+            }
+        }
+        canal = FileChannel.open(fichier, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int nombre = (int) ((taille + MASQUE_SEGMENT) >>> BITS_SEGMENT);
+        segments = new MappedByteBuffer[Math.max(nombre, 1)];
+        for (int s = 0; s < nombre; s++) {
+            long debut = (long) s << BITS_SEGMENT;
+            segments[s] = canal.map(FileChannel.MapMode.READ_WRITE, debut, Math.min(1L << BITS_SEGMENT, taille - debut));
+        }
+    }
+
+    /**
+     * Crée un tableau rempli de zéros dans un fichier temporaire supprimé à la fermeture.
+     *
+     * @param taille la taille du tableau en octets
+     * @return le tableau créé
+     * @throws IOException si le fichier temporaire ne peut pas être créé
+     */
+    static TableauHorsTas temporaire(long taille) throws IOException {
+        Path fichier = Files.createTempFile("labyrinthe", ".bin"); // Supprimé par close()
+        return new TableauHorsTas(fichier, taille, true);
+    }
+
+    /**
+     * Retourne la taille du tableau en octets.
+     *
+     * @return la taille
+     */
+    long taille() { return taille; }
+
+    byte get(long indice) {
+        return segments[(int) (indice >>> BITS_SEGMENT)].get((int) (indice & MASQUE_SEGMENT));
+    }
+
+    void set(long indice, byte valeur) {
+        segments[(int) (indice >>> BITS_SEGMENT)].put((int) (indice & MASQUE_SEGMENT), valeur);
+    }
+
+    /**
+     * Lit un long à une position en octets multiple de 8.
+     */
+    long getLong(long indice) {
+        return segments[(int) (indice >>> BITS_SEGMENT)].getLong((int) (indice & MASQUE_SEGMENT));
+    }
+
+    /**
+     * Écrit un long à une position en octets multiple de 8.
+     */
+    void putLong(long indice, long valeur) {
+        segments[(int) (indice >>> BITS_SEGMENT)].putLong((int) (indice & MASQUE_SEGMENT), valeur);
+    }
+
+    /**
+     * Lit un quartet (4 bits) : le tableau est alors vu comme 2 valeurs de 0 à 15 par octet.
+     */
+    int getQuartet(long indice) {
+        int octet = get(indice >>> 1);
+        return (indice & 1) == 0 ? octet & 0x0F : (octet >>> 4) & 0x0F;
+    }
+
+    /**
+     * Écrit un quartet (4 bits), valeur de 0 à 15.
+     */
+    void setQuartet(long indice, int valeur) {
+        long position = indice >>> 1;
+        int octet = get(position);
+        octet = (indice & 1) == 0 ? (octet & 0xF0) | valeur : (octet & 0x0F) | (valeur << 4);
+        set(position, (byte) octet);
+    }
+
+    /**
+     * Ferme le canal et supprime le fichier s'il est temporaire ; le tableau ne doit plus être utilisé.
+     *
+     * <p>Java 21 n'offre pas de moyen public de défaire une projection (l'API {@code Arena} qui le permet
+     * est encore en aperçu) : les références aux segments sont abandonnées ici, et l'espace d'adressage
+     * comme les blocs disque d'un fichier supprimé ne sont rendus qu'au passage du ramasse-miettes
+     * qui libère les {@link MappedByteBuffer}. Sous Linux la suppression réussit malgré la projection ;
+     * si le système la refuse (Windows), le fichier est confié à {@code deleteOnExit}.</p>
+     *
+     * @throws IOException si la fermeture du canal échoue
+     */
+    @Override
+    public void close() throws IOException {
+        Arrays.fill(segments, null); // Projections rendues inaccessibles : libérables dès le prochain ramasse-miettes
+        canal.close();
+        if (temporaire) {
+            try {
+                Files.deleteIfExists(fichier);
+            } catch (IOException e) {
+                fichier.toFile().deleteOnExit(); // Fichier encore projeté : suppression à l'arrêt de la JVM
+            }
+        }
+    }
+}
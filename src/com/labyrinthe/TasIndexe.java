@@ -0,0 +1,156 @@
+package com.labyrinthe;
+
+import java.util.Arrays;
+
+/**
+ * Tas binaire minimum indexé sur des entiers 0..capacite-1, avec des priorités de type long.
+ * Permet l'insertion, la diminution ou l'augmentation de priorité et la suppression d'un élément
+ * quelconque en O(log n), sans allocation d'objets par opération.
+ */
+class TasIndexe {
+    private final int[] tas; // Éléments rangés selon l'ordre du tas
+    private final int[] position; // Position de chaque élément dans le tas (-1 si absent)
+    private final long[] priorite; // Priorité courante de chaque élément
+    private int taille; // Nombre d'éléments présents
+
+    /**
+     * Construit un tas vide pouvant contenir les éléments 0..capacite-1.
+     *
+     * @param capacite le nombre d'éléments distincts possibles
+     */
+    TasIndexe(int capacite) {
+        tas = new int[capacite];
+        position = new int[capacite];
+        priorite = new long[capacite];
+        Arrays.fill(position, -1);
+    }
+
+    /**
+     * Indique si le tas est vide.
+     *
+     * @return true si aucun élément n'est présent
+     */
+    boolean estVide() { return taille == 0; }
+
+    /**
+     * Indique si un élément est présent dans le tas.
+     *
+     * @param element l'élément recherché
+     * @return true si l'élément est présent
+     */
+    boolean contient(int element) { return position[element] >= 0; }
+
+    /**
+     * Retourne l'élément de plus petite priorité sans le retirer.
+     *
+     * @return l'élément au sommet du tas
+     */
+    int sommet() { return tas[0]; }
+
+    /**
+     * Retourne la plus petite priorité du tas.
+     *
+     * @return la priorité du sommet, ou Long.MAX_VALUE si le tas est vide
+     */
+    long prioriteMin() { return taille == 0 ? Long.MAX_VALUE : priorite[tas[0]]; }
+
+    /**
+     * Insère un élément ou met à jour sa priorité s'il est déjà présent.
+     *
+     * @param element  l'élément à insérer
+     * @param nouvelle la priorité associée
+     */
+    void inserer(int element, long nouvelle) {
+        int pos = position[element];
+        if (pos < 0) {
+            priorite[element] = nouvelle;
+            tas[taille] = element;
+            position[element] = taille;
+            monter(taille++);
+        } else {
+            long ancienne = priorite[element];
+            priorite[element] = nouvelle;
+            if (nouvelle < ancienne) {
+                monter(pos);
+            } else {
+                descendre(pos);
+            }
+        }
+    }
+
+    /**
+     * Retire et retourne l'élément de plus petite priorité.
+     *
+     * @return l'élément retiré
+     */
+    int extraire() {
+        int min = tas[0];
+        retirer(min);
+        return min;
+    }
+
+    /**
+     * Retire un élément quelconque du tas s'il est présent.
+     *
+     * @param element l'élément à retirer
+     */
+    void retirer(int element) {
+        int pos = position[element];
+        if (pos < 0) {
+            return;
+        }
+        position[element] = -1;
+        taille--;
+        if (pos < taille) {
+            int dernier = tas[taille];
+            tas[pos] = dernier;
+            position[dernier] = pos;
+            monter(pos);
+            descendre(position[dernier]);
+        }
+    }
+
+    /**
+     * Vide le tas en O(taille).
+     */
+    void vider() {
+        for (int i = 0; i < taille; i++) {
+            position[tas[i]] = -1;
+        }
+        taille = 0;
+    }
+
+    private void monter(int pos) {
+        int element = tas[pos];
+        long p = priorite[element];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            int e = tas[parent];
+            if (priorite[e] <= p) break;
+            tas[pos] = e;
+            position[e] = pos;
+            pos = parent;
+        }
+        tas[pos] = element;
+        position[element] = pos;
+    }
+
+    private void descendre(int pos) {
+        int element = tas[pos];
+        long p = priorite[element];
+        while (true) {
+            int enfant = 2 * pos + 1;
+            if (enfant >= taille) break;
+            if (enfant + 1 < taille && priorite[tas[enfant + 1]] < priorite[tas[enfant]]) {
+                enfant++;
+            }
+            int e = tas[enfant];
+            if (priorite[e] >= p) break;
+            tas[pos] = e;
+            position[e] = pos;
+            pos = enfant;
+        }
+        tas[pos] = element;
+        position[element] = pos;
+    }
+}
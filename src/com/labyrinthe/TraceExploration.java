@@ -0,0 +1,74 @@
+package com.labyrinthe;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Trace d'une résolution : les cases explorées, dans l'ordre où l'animation les marque, puis le chemin trouvé.
+ * Chaque étape tient dans un {@code int} (indice ligne * largeur + colonne), si bien qu'une trace de
+ * plusieurs millions d'étapes reste compacte. Enregistrée par {@link Solver#enregistrerBFS(Labyrinthe)}
+ * ou {@link Solver#enregistrerDFS(Labyrinthe)}, puis rejouée par {@link RenduImages}.
+ */
+public final class TraceExploration {
+    private final int largeur; // Largeur du labyrinthe, pour décoder les indices
+    private int[] etapes = new int[1024]; // Case explorée à chaque étape (ligne * largeur + colonne)
+    private int nombreEtapes; // Nombre d'étapes enregistrées
+    private List<Integer[]> chemin = Collections.emptyList(); // Chemin trouvé en fin de résolution
+
+    /**
+     * Crée une trace vide pour un labyrinthe.
+     *
+     * @param labyrinthe le labyrinthe résolu
+     */
+    TraceExploration(Labyrinthe labyrinthe) {
+        this.largeur = labyrinthe.getWidth();
+    }
+
+    /**
+     * Enregistre l'exploration d'une case.
+     */
+    void ajouter(int x, int y) {
+        if (nombreEtapes == etapes.length) {
+            etapes = Arrays.copyOf(etapes, etapes.length * 2);
+        }
+        etapes[nombreEtapes++] = x * largeur + y;
+    }
+
+    /**
+     * Enregistre le chemin final.
+     */
+    void terminer(List<Integer[]> chemin) {
+        this.chemin = chemin;
+    }
+
+    /**
+     * Retourne le nombre d'étapes enregistrées.
+     *
+     * @return le nombre de cases explorées
+     */
+    public int getNombreEtapes() { return nombreEtapes; }
+
+    /**
+     * Retourne la ligne de la case explorée à une étape.
+     *
+     * @param etape l'indice de l'étape
+     * @return la coordonnée X de la case
+     */
+    public int getLigne(int etape) { return etapes[etape] / largeur; }
+
+    /**
+     * Retourne la colonne de la case explorée à une étape.
+     *
+     * @param etape l'indice de l'étape
+     * @return la coordonnée Y de la case
+     */
+    public int getColonne(int etape) { return etapes[etape] % largeur; }
+
+    /**
+     * Retourne le chemin trouvé à la fin de la résolution.
+     *
+     * @return la liste des coordonnées du chemin, vide si la sortie est inaccessible
+     */
+    public List<Integer[]> getChemin() { return chemin; }
+}
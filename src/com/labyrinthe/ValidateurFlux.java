@@ -0,0 +1,235 @@
+package com.labyrinthe;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Vérifie en un seul passage séquentiel qu'un fichier de labyrinthe (même de plusieurs gigaoctets)
+ * permet d'atteindre la sortie (E) depuis le départ (S), sans jamais charger la grille.
+ * Les lignes sont lues une à une ; une union-find ne porte que sur les cases ouvertes de la ligne
+ * précédente et de la ligne courante, puis les composantes sont renumérotées à chaque changement de ligne.
+ * La mémoire utilisée est donc proportionnelle à la largeur du labyrinthe, quelle que soit sa hauteur.
+ * Une fois la réponse connue, les lignes restantes sont encore lues jusqu'au bout, mais seulement pour
+ * vérifier le format (longueur des lignes, unicité de S et E) : un fichier mal formé est toujours refusé.
+ */
+public final class ValidateurFlux {
+    private static final int TAILLE_TAMPON = 1 << 16; // Lecture du fichier par blocs de 64 Ko
+
+    private final int[] etiquettesPrecedentes; // Composante de chaque colonne de la ligne précédente (-1 : mur)
+    private final int[] etiquettesCourantes; // Composante de chaque colonne de la ligne courante
+    private final int[] parent; // Union-find : composantes précédentes [0, largeur), cases courantes [largeur, 2 * largeur)
+    private final byte[] drapeaux; // Bits CONTIENT_DEPART et CONTIENT_SORTIE de chaque racine
+    private final byte[] drapeauxPrecedents; // Drapeaux des composantes de la ligne précédente
+    private final int[] renumerotation; // Nouvelle étiquette de chaque racine, -1 si pas encore attribuée
+    private final int largeur; // Largeur attendue des lignes
+    private boolean departVu, sortieVue; // S et E déjà rencontrés
+    private long lignes; // Lignes traitées
+
+    private static final byte CONTIENT_DEPART = 1;
+    private static final byte CONTIENT_SORTIE = 2;
+
+    /**
+     * Résultat de la validation, connu au plus tard à la fin du flux.
+     */
+    private enum Verdict { INCONNU, ACCESSIBLE, INACCESSIBLE }
+
+    private ValidateurFlux(int largeur) {
+        this.largeur = largeur;
+        etiquettesPrecedentes = new int[largeur];
+        Arrays.fill(etiquettesPrecedentes, -1);
+        etiquettesCourantes = new int[largeur];
+        parent = new int[2 * largeur];
+        drapeaux = new byte[2 * largeur];
+        drapeauxPrecedents = new byte[largeur];
+        renumerotation = new int[2 * largeur];
+        Arrays.fill(renumerotation, -1);
+    }
+
+    /**
+     * Indique si la sortie est accessible depuis le départ dans un fichier de labyrinthe.
+     *
+     * @param fichier le chemin du fichier
+     * @return true si S et E sont reliés par des cases ouvertes
+     * @throws IOException si le fichier est illisible ou mal formé (lignes de longueurs différentes, S ou E absent ou multiple)
+     */
+    public static boolean sortieAccessible(Path fichier) throws IOException {
+        try (InputStream flux = Files.newInputStream(fichier)) {
+            return sortieAccessible(flux);
+        }
+    }
+
+    /**
+     * Indique si la sortie est accessible depuis le départ dans un flux au format des fichiers de labyrinthe
+     * (une ligne par rangée, {@code #} pour les murs, lignes vides ou blanches ignorées). L'union-find s'arrête dès que
+     * la réponse est connue (S et E dans la même composante, ou composante de l'un d'eux refermée sans
+     * l'autre) ; la suite du flux n'est plus que contrôlée, jusqu'à sa fin.
+     *
+     * @param flux le flux à lire entièrement (non fermé)
+     * @return true si S et E sont reliés par des cases ouvertes
+     * @throws IOException si le flux est illisible ou mal formé (lignes de longueurs différentes, S ou E absent ou multiple)
+     */
+    public static boolean sortieAccessible(InputStream flux) throws IOException {
+        byte[] tampon = new byte[TAILLE_TAMPON]; // Bloc lu dans le flux
+        byte[] ligne = new byte[256]; // Ligne courante, agrandie au besoin
+        int longueur = 0;
+        ValidateurFlux validateur = null;
+        Verdict verdict = Verdict.INCONNU; // Réponse, connue parfois bien avant la fin du flux
+        int lus;
+        do {
+            lus = flux.read(tampon);
+            int fin = lus < 0 ? 1 : lus; // En fin de flux, traiter la dernière ligne comme si un '\n' la terminait
+            for (int k = 0; k < fin; k++) {
+                byte octet = lus < 0 ? (byte) '\n' : tampon[k];
+                if (octet != '\n') {
+                    if (longueur == ligne.length) ligne = Arrays.copyOf(ligne, ligne.length * 2);
+                    ligne[longueur++] = octet;
+                    continue;
+                }
+                if (longueur > 0 && ligne[longueur - 1] == '\r') longueur--; // Fins de ligne Windows
+                if (estBlanche(ligne, longueur)) { // Ligne vide ou blanche ignorée, comme au chargement
+                    longueur = 0;
+                    continue;
+                }
+                if (validateur == null) validateur = new ValidateurFlux(longueur);
+                if (verdict == Verdict.INCONNU) {
+                    verdict = validateur.traiterLigne(ligne, longueur);
+                } else {
+                    validateur.verifierLigne(ligne, longueur); // Réponse déjà connue : contrôle du format seulement
+                }
+                longueur = 0;
+            }
+        } while (lus >= 0);
+        if (validateur == null || !validateur.departVu || !validateur.sortieVue) {
+            throw new IOException("Le labyrinthe doit contenir un départ (S) et une sortie (E).");
+        }
+        return verdict == Verdict.ACCESSIBLE; // INCONNU : les deux composantes ont atteint la dernière ligne sans se rejoindre
+    }
+
+    /**
+     * Indique si une ligne est vide ou ne contient que des blancs, selon la règle de {@link String#trim()}
+     * (octets inférieurs ou égaux à l'espace) appliquée par {@link Labyrinthe} au chargement.
+     */
+    private static boolean estBlanche(byte[] ligne, int longueur) {
+        for (int j = 0; j < longueur; j++) {
+            if ((ligne[j] & 0xFF) > ' ') return false;
+        }
+        return true;
+    }
+
+    /**
+     * Fusionne une ligne avec les composantes de la précédente puis renumérote les composantes.
+     *
+     * @return le verdict si la ligne suffit à conclure
+     */
+    private Verdict traiterLigne(byte[] ligne, int longueur) throws IOException {
+        verifierLongueur(longueur);
+
+        // Nœuds [0, largeur) : composantes de la ligne précédente ; nœuds [largeur, 2 * largeur) : cases courantes
+        for (int i = 0; i < largeur; i++) {
+            parent[i] = i;
+            drapeaux[i] = drapeauxPrecedents[i];
+        }
+        for (int j = 0; j < largeur; j++) {
+            int noeud = largeur + j;
+            parent[noeud] = noeud;
+            drapeaux[noeud] = 0;
+            byte c = ligne[j];
+            if (c == '#') continue;
+            if (c == 'S') {
+                if (departVu) throw new IOException("Plusieurs départs (S) dans le labyrinthe.");
+                departVu = true;
+                drapeaux[noeud] = CONTIENT_DEPART;
+            } else if (c == 'E') {
+                if (sortieVue) throw new IOException("Plusieurs sorties (E) dans le labyrinthe.");
+                sortieVue = true;
+                drapeaux[noeud] = CONTIENT_SORTIE;
+            }
+            if (j > 0 && ligne[j - 1] != '#') unir(noeud, noeud - 1); // Voisin de gauche
+            if (etiquettesPrecedentes[j] >= 0) unir(noeud, etiquettesPrecedentes[j]); // Voisin du dessus
+        }
+
+        // Renumérotation compacte des composantes présentes sur la ligne courante
+        int composantes = 0;
+        boolean departVivant = false, sortieVivante = false;
+        for (int j = 0; j < largeur; j++) {
+            if (ligne[j] == '#') {
+                etiquettesCourantes[j] = -1;
+                continue;
+            }
+            int racine = trouver(largeur + j);
+            if (renumerotation[racine] < 0) {
+                renumerotation[racine] = composantes;
+                byte d = drapeaux[racine];
+                if (d == (CONTIENT_DEPART | CONTIENT_SORTIE)) return Verdict.ACCESSIBLE;
+                departVivant |= (d & CONTIENT_DEPART) != 0;
+                sortieVivante |= (d & CONTIENT_SORTIE) != 0;
+                drapeauxPrecedents[composantes++] = d;
+            }
+            etiquettesCourantes[j] = renumerotation[racine];
+        }
+        // Une composante absente de la ligne courante est refermée : plus rien ne pourra la rejoindre
+        if ((departVu && !departVivant) || (sortieVue && !sortieVivante)) return Verdict.INACCESSIBLE;
+
+        for (int j = 0; j < largeur; j++) {
+            if (etiquettesCourantes[j] >= 0) renumerotation[trouver(largeur + j)] = -1;
+        }
+        System.arraycopy(etiquettesCourantes, 0, etiquettesPrecedentes, 0, largeur);
+        return Verdict.INCONNU;
+    }
+
+    /**
+     * Vérifie la longueur d'une ligne et compte les lignes traitées.
+     */
+    private void verifierLongueur(int longueur) throws IOException {
+        if (longueur != largeur) {
+            throw new IOException("Toutes les lignes doivent avoir la même longueur (" + largeur
+                    + " caractères), ligne " + (lignes + 1) + " : " + longueur);
+        }
+        lignes++;
+    }
+
+    /**
+     * Contrôle une ligne sans union-find : longueur et unicité de S et E.
+     */
+    private void verifierLigne(byte[] ligne, int longueur) throws IOException {
+        verifierLongueur(longueur);
+        for (int j = 0; j < largeur; j++) {
+            if (ligne[j] == 'S') {
+                if (departVu) throw new IOException("Plusieurs départs (S) dans le labyrinthe.");
+                departVu = true;
+            } else if (ligne[j] == 'E') {
+                if (sortieVue) throw new IOException("Plusieurs sorties (E) dans le labyrinthe.");
+                sortieVue = true;
+            }
+        }
+    }
+
+    /**
+     * Cherche la racine d'un nœud en compressant le chemin (division par deux).
+     */
+    private int trouver(int noeud) {
+        while (parent[noeud] != noeud) {
+            parent[noeud] = parent[parent[noeud]];
+            noeud = parent[noeud];
+        }
+        return noeud;
+    }
+
+    /**
+     * Réunit deux composantes et cumule leurs drapeaux sur la nouvelle racine.
+     */
+    private void unir(int a, int b) {
+        int ra = trouver(a), rb = trouver(b);
+        if (ra == rb) return;
+        if (ra > rb) { // La plus petite racine l'emporte : les composantes de la ligne précédente restent racines
+            int t = ra;
+            ra = rb;
+            rb = t;
+        }
+        parent[rb] = ra;
+        drapeaux[ra] |= drapeaux[rb];
+    }
+}
@@ -0,0 +1,17 @@
+package com.labyrinthe;
+
+/**
+ * Reçoit des cases une à une, sous forme de coordonnées, sans allouer de tableau par case.
+ * Utilisé pour parcourir un chemin ou un calque quelle que soit sa représentation
+ * ({@link CheminCompact}, {@link Superposition}, {@link SolveurHorsTas}).
+ */
+@FunctionalInterface
+public interface VisiteurCase {
+    /**
+     * Traite une case.
+     *
+     * @param x la coordonnée X de la case
+     * @param y la coordonnée Y de la case
+     */
+    void visiter(int x, int y);
+}